@@ -0,0 +1,266 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.event.ServerChatEvent;
+import net.minecraftforge.fml.common.eventhandler.Cancelable;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.message.MessageChannelEvent;
+import org.spongepowered.api.event.message.MessageEvent;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.SpongeMod;
+import org.spongepowered.mod.interfaces.IMixinEventBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks posting events through the Forge and Sponge event bridge.
+ *
+ * <p>Events are posted into the live event managers, so these have to be
+ * run within a started SpongeForge server, for example through the JMH
+ * {@code Runner} from a development server. Every listener is registered on
+ * setup and unregistered again on tear down.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBridgeBenchmark {
+
+    private static final String MESSAGE = "Hello world";
+
+    // Listeners registered by both plugins and mods, with the cancelling listener coming on top
+    @Param({"0", "10", "50"}) public int spongeListeners;
+    @Param({"0", "10", "50"}) public int forgeListeners;
+    // Percentage of the posted events cancelled by the first listener
+    @Param({"0", "50", "100"}) public int cancelledPercent;
+    // Whether listeners change the chat message, which forces the data to be synced between both sides
+    @Param({"false", "true"}) public boolean modifyMessage;
+
+    private final List<EventListener<?>> registeredSpongeListeners = new ArrayList<>();
+    private final List<Object> registeredForgeListeners = new ArrayList<>();
+    private SpongeModEventManager eventManager;
+    private int busId;
+    private EntityPlayerMP player;
+    private Cause cause;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (!SpongeImpl.isInitialized() || !Sponge.isServerAvailable()) {
+            throw new IllegalStateException("The event bridge benchmarks have to be run within a started SpongeForge server");
+        }
+        this.eventManager = (SpongeModEventManager) SpongeImpl.getGame().getEventManager();
+        this.busId = ((IMixinEventBus) MinecraftForge.EVENT_BUS).getBusID();
+        this.player = FakePlayerFactory.getMinecraft((WorldServer) Sponge.getServer().getWorlds().iterator().next());
+        this.cause = Cause.source(this.player).build();
+
+        final Canceller canceller = new Canceller(this.cancelledPercent);
+        registerSpongeListener(MessageChannelEvent.Chat.class, Order.FIRST, canceller::onChat);
+        registerSpongeListener(SyntheticEvent.class, Order.FIRST, canceller::onEvent);
+        registerForgeListener(canceller);
+        for (int i = 0; i < this.spongeListeners; i++) {
+            registerSpongeListener(MessageChannelEvent.Chat.class, Order.DEFAULT, new SpongeChatListener(this.modifyMessage));
+            registerSpongeListener(SyntheticEvent.class, Order.DEFAULT, event -> {});
+        }
+        for (int i = 0; i < this.forgeListeners; i++) {
+            registerForgeListener(new ForgeListener(this.modifyMessage));
+        }
+    }
+
+    private <T extends Event> void registerSpongeListener(Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        this.eventManager.registerListener(SpongeMod.instance, eventClass, order, listener);
+        this.registeredSpongeListeners.add(listener);
+    }
+
+    private void registerForgeListener(Object listener) {
+        MinecraftForge.EVENT_BUS.register(listener);
+        this.registeredForgeListeners.add(listener);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.registeredSpongeListeners.forEach(this.eventManager::unregisterListeners);
+        this.registeredSpongeListeners.clear();
+        this.registeredForgeListeners.forEach(MinecraftForge.EVENT_BUS::unregister);
+        this.registeredForgeListeners.clear();
+    }
+
+    private ServerChatEvent createForgeChatEvent() {
+        return new ServerChatEvent(this.player, MESSAGE, new TextComponentTranslation("chat.type.text", this.player.getDisplayName(), MESSAGE));
+    }
+
+    @Benchmark
+    public boolean forgeOriginated() {
+        final ServerChatEvent event = createForgeChatEvent();
+        return this.eventManager.post(null, event, event.getListenerList().getListeners(this.busId));
+    }
+
+    @Benchmark
+    public boolean spongeOriginated() {
+        final MessageChannelEvent.Chat event = SpongeEventFactory.createMessageChannelEventChat(this.cause, MessageChannel.TO_NONE,
+                Optional.empty(), new MessageEvent.MessageFormatter(Text.of(MESSAGE)), Text.of(MESSAGE), false);
+        // Goes through the bridge mapped for the event, which fires a ServerChatEvent if mods listen to it
+        return this.eventManager.post(event);
+    }
+
+    @Benchmark
+    public boolean spongeOnly() {
+        return this.eventManager.post(new SyntheticEvent(this.cause));
+    }
+
+    @Benchmark
+    public boolean eventBusBridged() {
+        return MinecraftForge.EVENT_BUS.post(createForgeChatEvent());
+    }
+
+    @Benchmark
+    public boolean eventBusForgeOnly() {
+        return MinecraftForge.EVENT_BUS.post(new SyntheticForgeEvent());
+    }
+
+    public static class SyntheticEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        SyntheticEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    @Cancelable
+    public static class SyntheticForgeEvent extends net.minecraftforge.fml.common.eventhandler.Event {
+    }
+
+    public static class Canceller {
+
+        private final int cancelledPercent;
+        private int posted;
+
+        Canceller(int cancelledPercent) {
+            this.cancelledPercent = cancelledPercent;
+        }
+
+        private boolean shouldCancel() {
+            return this.posted++ % 100 < this.cancelledPercent;
+        }
+
+        void onChat(MessageChannelEvent.Chat event) {
+            event.setCancelled(shouldCancel());
+        }
+
+        void onEvent(SyntheticEvent event) {
+            event.setCancelled(shouldCancel());
+        }
+
+        @SubscribeEvent(priority = EventPriority.HIGHEST)
+        public void onForgeEvent(SyntheticForgeEvent event) {
+            event.setCanceled(shouldCancel());
+        }
+    }
+
+    public static class SpongeChatListener implements EventListener<MessageChannelEvent.Chat> {
+
+        private final boolean modifyMessage;
+
+        SpongeChatListener(boolean modifyMessage) {
+            this.modifyMessage = modifyMessage;
+        }
+
+        @Override
+        public void handle(MessageChannelEvent.Chat event) {
+            if (this.modifyMessage) {
+                event.getFormatter().setBody(Text.of(MESSAGE));
+            } else {
+                event.getRawMessage();
+            }
+        }
+    }
+
+    public static class ForgeListener {
+
+        private final boolean modifyMessage;
+
+        ForgeListener(boolean modifyMessage) {
+            this.modifyMessage = modifyMessage;
+        }
+
+        @SubscribeEvent
+        public void onChat(ServerChatEvent event) {
+            if (this.modifyMessage) {
+                event.setComponent(new TextComponentString(MESSAGE));
+            } else {
+                event.getComponent();
+            }
+        }
+
+        @SubscribeEvent
+        public void onForgeEvent(SyntheticForgeEvent event) {
+        }
+    }
+}
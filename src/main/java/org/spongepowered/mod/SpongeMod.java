@@ -103,6 +103,7 @@
 import org.spongepowered.mod.registry.SpongeForgeVillagerRegistry;
 import org.spongepowered.mod.registry.SpongeGameData;
 import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+import org.spongepowered.mod.world.WorldHibernation;
 
 import java.io.File;
 import java.io.IOException;
@@ -328,6 +329,7 @@ public void onServerStopped(FMLServerStoppedEvent event) throws IOException {
 
         // used by client
         WorldManager.unregisterAllWorldSettings();
+        WorldHibernation.reset();
     }
 
     // This overrides the method in PluginContainer
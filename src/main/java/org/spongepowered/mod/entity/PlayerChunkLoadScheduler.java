@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.entity;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.mod.interfaces.IMixinPlayerChunkMapEntry;
+import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the chunks of {@link PlayerChunkMapEntry}s in order of their
+ * distance to the closest player, favouring chunks ahead of the player.
+ *
+ * <p>Only a limited number of loads is queued on the chunk IO threads at
+ * once, the remaining requests are reordered every tick as the players move.
+ * Requests are dropped once no player watches the chunk anymore. Chunks which
+ * weren't saved yet are generated on the main thread, for which a limited
+ * number of chunks and time is available every tick. The terrain of the
+ * chunks which have to wait may be generated ahead on a worker thread.</p>
+ */
+public class PlayerChunkLoadScheduler {
+
+    // Loads queued on the chunk IO threads at once, the rest waits so it can still be reordered
+    private static final int MAX_QUEUED_LOADS = 32;
+    // Chunks generated on the main thread per tick, and the time they may take in total
+    private static final int MAX_SYNC_LOADS = 8;
+    private static final long SYNC_LOAD_BUDGET = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final PlayerChunkMap playerChunkMap;
+    private final Map<PlayerChunkMapEntry, Request> pending = new LinkedHashMap<>();
+    private final Set<PlayerChunkMapEntry> queued = new HashSet<>();
+
+    public PlayerChunkLoadScheduler(PlayerChunkMap playerChunkMap) {
+        this.playerChunkMap = playerChunkMap;
+    }
+
+    /**
+     * Requests the chunk of the given entry to be loaded, or generated if
+     * it wasn't saved yet.
+     *
+     * @param entry The entry to load the chunk for
+     */
+    public void queue(PlayerChunkMapEntry entry) {
+        ((IMixinPlayerChunkMapEntry) entry).setLoading(true);
+        this.pending.computeIfAbsent(entry, Request::new);
+    }
+
+    /**
+     * Called once the chunk of the given entry could not be loaded from
+     * disk, it will be generated instead.
+     *
+     * @param entry The entry to generate the chunk for
+     */
+    public void onLoadMissed(PlayerChunkMapEntry entry) {
+        ((IMixinPlayerChunkMapEntry) entry).setLoading(true);
+        this.queued.remove(entry);
+        this.pending.computeIfAbsent(entry, Request::new).missing = true;
+    }
+
+    public void tick() {
+        // Loads queued on the IO threads are done once the chunk is set, Forge drops them if everyone moved away
+        this.queued.removeIf(entry -> !((IMixinPlayerChunkMapEntry) entry).isLoading()
+                || ((IMixinPlayerChunkMapEntry) entry).getPlayers().isEmpty());
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        final List<Request> requests = new ArrayList<>(this.pending.values());
+        for (Request request : requests) {
+            request.priority = getPriority(request.entry);
+        }
+        requests.sort(Comparator.comparingDouble(request -> request.priority));
+
+        final WorldServer world = this.playerChunkMap.getWorldServer();
+        final ChunkProviderServer chunkProvider = world.getChunkProvider();
+        final long deadline = System.nanoTime() + SYNC_LOAD_BUDGET;
+        int syncLoads = 0;
+        for (Request request : requests) {
+            final PlayerChunkMapEntry entry = request.entry;
+            final IMixinPlayerChunkMapEntry mixinEntry = (IMixinPlayerChunkMapEntry) entry;
+            final ChunkPos pos = entry.getPos();
+            if (mixinEntry.getPlayers().isEmpty()) {
+                this.pending.remove(entry);
+                mixinEntry.setLoading(false);
+                continue;
+            }
+            final Chunk loadedChunk = chunkProvider.getLoadedChunk(pos.chunkXPos, pos.chunkZPos);
+            if (loadedChunk != null) {
+                this.pending.remove(entry);
+                mixinEntry.setChunk(loadedChunk);
+                continue;
+            }
+            if (!request.missing) {
+                if (this.queued.size() >= MAX_QUEUED_LOADS) {
+                    continue;
+                }
+                // Queues the load on the IO threads, or runs the callback right away if the chunk is dormant or wasn't saved
+                chunkProvider.loadChunk(pos.chunkXPos, pos.chunkZPos, mixinEntry.getLoadedRunnable());
+                if (entry.getChunk() != null) {
+                    this.pending.remove(entry);
+                    continue;
+                }
+                if (!request.missing) {
+                    this.pending.remove(entry);
+                    this.queued.add(entry);
+                    continue;
+                }
+            }
+            if (!canGenerate(world, mixinEntry.getPlayers())) {
+                // Retried through PlayerChunkMap#tick, like vanilla does for chunks which may not be generated
+                this.pending.remove(entry);
+                mixinEntry.setLoading(false);
+                continue;
+            }
+            if (syncLoads >= MAX_SYNC_LOADS || System.nanoTime() > deadline) {
+                if (chunkProvider.chunkGenerator instanceof SpongeChunkGeneratorForge) {
+                    // Have the terrain ready by the time there is room for the chunk
+                    ((SpongeChunkGeneratorForge) chunkProvider.chunkGenerator).queueTerrain(pos.chunkXPos, pos.chunkZPos);
+                }
+                continue;
+            }
+            syncLoads++;
+            this.pending.remove(entry);
+            mixinEntry.setChunk(chunkProvider.provideChunk(pos.chunkXPos, pos.chunkZPos));
+        }
+    }
+
+    private static boolean canGenerate(WorldServer world, List<EntityPlayerMP> players) {
+        for (EntityPlayerMP player : players) {
+            if (!player.isSpectator() || world.getGameRules().getBoolean("spectatorsGenerateChunks")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double getPriority(PlayerChunkMapEntry entry) {
+        final ChunkPos pos = entry.getPos();
+        final double centerX = (pos.chunkXPos << 4) + 8;
+        final double centerZ = (pos.chunkZPos << 4) + 8;
+        double priority = Double.MAX_VALUE;
+        for (EntityPlayerMP player : ((IMixinPlayerChunkMapEntry) entry).getPlayers()) {
+            final double deltaX = centerX - player.posX;
+            final double deltaZ = centerZ - player.posZ;
+            final double distanceSquared = deltaX * deltaX + deltaZ * deltaZ;
+            double heading = 0;
+            if (distanceSquared > 0) {
+                final float yaw = player.rotationYaw * 0.017453292F;
+                heading = (-MathHelper.sin(yaw) * deltaX + MathHelper.cos(yaw) * deltaZ) / Math.sqrt(distanceSquared);
+            }
+            // Chunks straight ahead count as half as far away, chunks behind as half again as far
+            priority = Math.min(priority, distanceSquared * (2 - heading) / 2);
+        }
+        return priority;
+    }
+
+    private static final class Request {
+
+        final PlayerChunkMapEntry entry;
+        // Whether the chunk wasn't saved yet and has to be generated
+        boolean missing;
+        double priority;
+
+        Request(PlayerChunkMapEntry entry) {
+            this.entry = entry;
+        }
+    }
+}
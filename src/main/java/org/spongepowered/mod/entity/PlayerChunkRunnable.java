@@ -27,6 +27,7 @@
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.mod.interfaces.IMixinPlayerChunkMap;
 import org.spongepowered.mod.interfaces.IMixinPlayerChunkMapEntry;
 
 public class PlayerChunkRunnable implements Runnable {
@@ -48,8 +49,8 @@ public void run() {
             spongePlayerChunkMapEntry.setChunk(chunk);
             return;
         }
-        // Since we weren't able to load the chunk async, set loading to false to allow the PlayerChunkMap tick to load
-        spongePlayerChunkMapEntry.setLoading(false);
+        // Since we weren't able to load the chunk async, let the scheduler generate it
+        ((IMixinPlayerChunkMap) this.playerChunkMap).getChunkLoadScheduler().onLoadMissed(this.playerChunkMapEntry);
     }
 
 }
@@ -0,0 +1,230 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraftforge.fml.common.ModContainer;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.IEventListener;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.RegisteredListener;
+import org.spongepowered.mod.interfaces.IMixinASMEventHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Every listener a bridged event is passed to, flattened into a single
+ * array in execution order:
+ *
+ * <ol>
+ *     <li>Plugin listeners that run before modifications, by {@link Order}</li>
+ *     <li>Mod listeners, in the order of the Forge listener list</li>
+ *     <li>Plugin listeners that run after modifications, by {@link Order}</li>
+ * </ol>
+ *
+ * <p>Within each order, plugin listeners are grouped by their owning plugin
+ * so the active mod container only has to change at plugin boundaries.</p>
+ *
+ * <p>The array is only baked again once either of the source listener
+ * collections has been rebuilt, which happens when listeners are registered
+ * or unregistered.</p>
+ */
+final class BridgedListenerCache {
+
+    private static final IEventListener[] NO_FORGE_LISTENERS = new IEventListener[0];
+
+    private final RegisteredListener.Cache spongeListeners;
+    private final IEventListener[] forgeListeners;
+    final BridgedListener[] listeners;
+    // Index of the first mod listener, all before are plugin listeners running before modifications
+    final int forgeStart;
+    // Index following the last mod listener, all from here are plugin listeners running after modifications
+    final int forgeEnd;
+    // Index of the next listener to invoke once the event is cancelled, skipping the ones that ignore cancelled events
+    final int[] cancelledExits;
+
+    private BridgedListenerCache(RegisteredListener.Cache spongeListeners, IEventListener[] forgeListeners) {
+        this.spongeListeners = spongeListeners;
+        this.forgeListeners = forgeListeners;
+
+        final List<BridgedListener> listeners = new ArrayList<>();
+        for (Order order : Order.values()) {
+            addSpongeListeners(listeners, spongeListeners.getListenersByOrder(order), true);
+        }
+        this.forgeStart = listeners.size();
+        for (IEventListener listener : forgeListeners) {
+            listeners.add(ForgeListenerCompiler.compile(listener));
+        }
+        this.forgeEnd = listeners.size();
+        for (Order order : Order.values()) {
+            addSpongeListeners(listeners, spongeListeners.getListenersByOrder(order), false);
+        }
+        this.listeners = listeners.toArray(new BridgedListener[listeners.size()]);
+        this.cancelledExits = new int[this.listeners.length];
+        computeCancelledExits(0, this.forgeStart);
+        computeCancelledExits(this.forgeStart, this.forgeEnd);
+        computeCancelledExits(this.forgeEnd, this.listeners.length);
+    }
+
+    private void computeCancelledExits(int from, int to) {
+        int exit = to;
+        for (int index = to - 1; index >= from; index--) {
+            final BridgedListener listener = this.listeners[index];
+            // Priority markers only set the phase of the event, which matters as long as a listener after them still runs
+            if (!listener.skipsCancelled && !(exit == to && listener.isPhaseMarker())) {
+                exit = index;
+            }
+            this.cancelledExits[index] = exit;
+        }
+    }
+
+    private static void addSpongeListeners(List<BridgedListener> listeners, List<RegisteredListener<?>> orderListeners,
+            boolean beforeModifications) {
+        final Map<Object, List<RegisteredListener<?>>> byPlugin = new LinkedHashMap<>();
+        for (RegisteredListener<?> listener : orderListeners) {
+            if (listener.isBeforeModifications() == beforeModifications) {
+                byPlugin.computeIfAbsent(listener.getPlugin(), plugin -> new ArrayList<>()).add(listener);
+            }
+        }
+        for (List<RegisteredListener<?>> pluginListeners : byPlugin.values()) {
+            for (RegisteredListener<?> listener : pluginListeners) {
+                listeners.add(new SpongeListener(listener));
+            }
+        }
+    }
+
+    boolean hasForgeListeners() {
+        return this.forgeEnd > this.forgeStart;
+    }
+
+    boolean forgeListenersSkipCancelled() {
+        return this.forgeStart == this.forgeEnd || this.cancelledExits[this.forgeStart] == this.forgeEnd;
+    }
+
+    private boolean isBakedFrom(RegisteredListener.Cache spongeListeners, IEventListener[] forgeListeners) {
+        return this.spongeListeners == spongeListeners && this.forgeListeners == forgeListeners;
+    }
+
+    /**
+     * Gets the baked listeners for the given sources, reusing the previously
+     * baked listeners if neither source has changed since.
+     *
+     * @param previous The previously baked listeners, if any
+     * @param spongeListeners The plugin listeners for the event
+     * @param forgeListeners The mod listeners for the event, if the event is
+     *     passed to mods directly
+     * @return The baked listeners
+     */
+    static BridgedListenerCache bake(@Nullable BridgedListenerCache previous, RegisteredListener.Cache spongeListeners,
+            @Nullable IEventListener[] forgeListeners) {
+        if (forgeListeners == null) {
+            forgeListeners = NO_FORGE_LISTENERS;
+        }
+        if (previous != null && previous.isBakedFrom(spongeListeners, forgeListeners)) {
+            return previous;
+        }
+        return new BridgedListenerCache(spongeListeners, forgeListeners);
+    }
+
+    abstract static class BridgedListener {
+
+        // The container to activate while invoking this listener, null to leave it untouched
+        @Nullable final ModContainer plugin;
+        // Whether this listener ignores cancelled events
+        final boolean skipsCancelled;
+
+        BridgedListener(@Nullable ModContainer plugin, boolean skipsCancelled) {
+            this.plugin = plugin;
+            this.skipsCancelled = skipsCancelled;
+        }
+
+        boolean isPhaseMarker() {
+            return false;
+        }
+
+        abstract void invoke(Event spongeEvent, @Nullable net.minecraftforge.fml.common.eventhandler.Event forgeEvent);
+    }
+
+    static final class SpongeListener extends BridgedListener {
+
+        @SuppressWarnings("rawtypes") private final RegisteredListener listener;
+
+        SpongeListener(RegisteredListener<?> listener) {
+            // The cancellation filter of plugin listeners is applied within the listener itself
+            super((ModContainer) listener.getPlugin(), false);
+            this.listener = listener;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void invoke(Event spongeEvent, @Nullable net.minecraftforge.fml.common.eventhandler.Event forgeEvent) {
+            try {
+                this.listener.getTimingsHandler().startTimingIfSync();
+                this.listener.handle(spongeEvent);
+                this.listener.getTimingsHandler().stopTimingIfSync();
+            } catch (Throwable e) {
+                SpongeImpl.getLogger().error("Could not pass {} to {}", spongeEvent.getClass().getSimpleName(), this.listener.getPlugin(), e);
+            }
+        }
+    }
+
+    static final class ForgeListener extends BridgedListener {
+
+        private final IEventListener listener;
+        @Nullable private final IMixinASMEventHandler modListener;
+
+        ForgeListener(IEventListener listener, boolean skipsCancelled) {
+            super(null, skipsCancelled);
+            this.listener = listener;
+            this.modListener = listener instanceof IMixinASMEventHandler ? (IMixinASMEventHandler) listener : null;
+        }
+
+        @Override
+        boolean isPhaseMarker() {
+            return this.listener instanceof EventPriority;
+        }
+
+        @Override
+        void invoke(Event spongeEvent, @Nullable net.minecraftforge.fml.common.eventhandler.Event forgeEvent) {
+            try {
+                if (this.modListener != null) {
+                    this.modListener.getTimingsHandler().startTimingIfSync();
+                    this.listener.invoke(forgeEvent);
+                    this.modListener.getTimingsHandler().stopTimingIfSync();
+                } else {
+                    this.listener.invoke(forgeEvent);
+                }
+            } catch (Throwable throwable) {
+                SpongeImpl.getLogger().catching(throwable);
+            }
+        }
+    }
+}
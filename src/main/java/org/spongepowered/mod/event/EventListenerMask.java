@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.interfaces.IMixinEventBus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches, per event class, whether any plugin or any mod on a given Forge
+ * bus listens to it at all.
+ *
+ * <p>Bit {@code 0} of a mask is set if plugins listen to the event, bit
+ * {@code busId + 1} if mods on the bus with that id do. All masks are
+ * invalidated at once whenever a listener is registered or unregistered on
+ * either side.</p>
+ */
+public final class EventListenerMask {
+
+    private static final int SPONGE_BIT = 0;
+    private static final int MAX_BIT = Long.SIZE - 1;
+
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private static final ClassValue<EventListenerMask> MASKS = new ClassValue<EventListenerMask>() {
+
+        @Override
+        protected EventListenerMask computeValue(Class<?> type) {
+            return new EventListenerMask();
+        }
+    };
+
+    // Replaced as a whole, so readers never see a partially updated mask
+    private volatile State state = new State(-1, 0L, 0L);
+
+    private EventListenerMask() {
+    }
+
+    /**
+     * Invalidates all masks, called whenever listeners are registered or
+     * unregistered on either side.
+     */
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets whether any plugin listens to the given event.
+     *
+     * @param event The sponge event
+     * @return True if plugins listen to the event
+     */
+    public static boolean hasSpongeListeners(Event event) {
+        final EventListenerMask mask = MASKS.get(event.getClass());
+        final int currentGeneration = GENERATION.get();
+        final State state = mask.state;
+        if (state.isKnown(currentGeneration, SPONGE_BIT)) {
+            return state.isListening(SPONGE_BIT);
+        }
+        final boolean listening = ((SpongeModEventManager) SpongeImpl.getGame().getEventManager()).hasListeners(event);
+        mask.update(currentGeneration, SPONGE_BIT, listening);
+        return listening;
+    }
+
+    /**
+     * Gets whether any mod listens to the given event class on the given bus.
+     *
+     * @param eventClass The forge event class
+     * @param eventBus The forge event bus
+     * @return True if mods listen to the event on the bus
+     */
+    public static boolean hasForgeListeners(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> eventClass, EventBus eventBus) {
+        final IMixinEventBus bus = (IMixinEventBus) eventBus;
+        final int bit = bus.getBusID() + 1;
+        if (bit > MAX_BIT) {
+            return bus.hasListenersFor(eventClass);
+        }
+        final EventListenerMask mask = MASKS.get(eventClass);
+        final int currentGeneration = GENERATION.get();
+        final State state = mask.state;
+        if (state.isKnown(currentGeneration, bit)) {
+            return state.isListening(bit);
+        }
+        final boolean listening = bus.hasListenersFor(eventClass);
+        mask.update(currentGeneration, bit, listening);
+        return listening;
+    }
+
+    /**
+     * Gets whether anyone listens to a Sponge event which is bridged to the
+     * given Forge event class and bus.
+     *
+     * @param spongeEvent The sponge event
+     * @param eventClass The forge event class
+     * @param eventBus The forge event bus
+     * @return True if plugins or mods listen to the event
+     */
+    public static boolean hasListeners(Event spongeEvent, Class<? extends net.minecraftforge.fml.common.eventhandler.Event> eventClass,
+            EventBus eventBus) {
+        return hasSpongeListeners(spongeEvent) || hasForgeListeners(eventClass, eventBus);
+    }
+
+    private void update(int currentGeneration, int bit, boolean listening) {
+        final State state = this.state;
+        long known = 0L;
+        long listeningBits = 0L;
+        if (state.generation == currentGeneration) {
+            known = state.known;
+            listeningBits = state.listening;
+        }
+        known |= 1L << bit;
+        if (listening) {
+            listeningBits |= 1L << bit;
+        } else {
+            listeningBits &= ~(1L << bit);
+        }
+        this.state = new State(currentGeneration, known, listeningBits);
+    }
+
+    private static final class State {
+
+        final int generation;
+        final long known;
+        final long listening;
+
+        State(int generation, long known, long listening) {
+            this.generation = generation;
+            this.known = known;
+            this.listening = listening;
+        }
+
+        boolean isKnown(int currentGeneration, int bit) {
+            return this.generation == currentGeneration && (this.known & (1L << bit)) != 0;
+        }
+
+        boolean isListening(int bit) {
+            return (this.listening & (1L << bit)) != 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraftforge.event.entity.living.LivingDropsEvent;
+import net.minecraftforge.event.entity.player.AttackEntityEvent;
+import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Type checks made for every Forge event posted on any bus, computed once
+ * per event class.
+ */
+public final class ForgeEventFlags {
+
+    private static final ClassValue<ForgeEventFlags> FLAGS = new ClassValue<ForgeEventFlags>() {
+
+        @Override
+        protected ForgeEventFlags computeValue(Class<?> type) {
+            return new ForgeEventFlags(type);
+        }
+    };
+
+    private final boolean allowed;
+    private final boolean spongeEvent;
+
+    private ForgeEventFlags(Class<?> eventClass) {
+        this.allowed = isEventAllowed(eventClass);
+        this.spongeEvent = org.spongepowered.api.event.Event.class.isAssignableFrom(eventClass);
+    }
+
+    public static ForgeEventFlags of(net.minecraftforge.fml.common.eventhandler.Event event) {
+        return FLAGS.get(event.getClass());
+    }
+
+    /**
+     * Gets whether events of this class may be posted on the event bus
+     * unless forced.
+     *
+     * @return True if the event is allowed
+     */
+    public boolean isAllowed() {
+        return this.allowed;
+    }
+
+    /**
+     * Gets whether events of this class are also Sponge events, and so are
+     * bridged to plugins when posted.
+     *
+     * @return True if the event is a sponge event
+     */
+    public boolean isSpongeEvent() {
+        return this.spongeEvent;
+    }
+
+    // Events that should not be posted on the event bus
+    private static boolean isEventAllowed(Class<?> eventClass) {
+        if (PlayerInteractEvent.EntityInteract.class.isAssignableFrom(eventClass)) {
+            return false;
+        } else if (LivingDropsEvent.class.isAssignableFrom(eventClass)) {
+            return false;
+        } else if (WorldEvent.Save.class.isAssignableFrom(eventClass)) {
+            return false;
+        } else if (WorldEvent.Unload.class.isAssignableFrom(eventClass)) {
+            return false;
+        } else if (AttackEntityEvent.class.isAssignableFrom(eventClass)) { // TODO - gabizou - figure this one out
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import co.aikar.timings.Timing;
+import net.minecraftforge.fml.common.eventhandler.IEventListener;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.event.BridgedListenerCache.BridgedListener;
+import org.spongepowered.mod.event.BridgedListenerCache.ForgeListener;
+import org.spongepowered.mod.interfaces.IMixinASMEventHandler;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import javax.annotation.Nullable;
+
+/**
+ * Compiles mod listeners into direct invokers when the bridged listeners
+ * are baked.
+ *
+ * <p>Instead of going through {@code ASMEventHandler#invoke}, the handler
+ * method of a mod listener is bound to its target with the
+ * {@link LambdaMetafactory}, giving each listener its own call site. The
+ * timings handler is resolved at the same time rather than on every
+ * invocation.</p>
+ */
+final class ForgeListenerCompiler {
+
+    // Forge only sets the logging context from ASMEventHandler#invoke, so keep using it when that is enabled
+    private static final boolean LOG_CONTEXT = Boolean.parseBoolean(System.getProperty("fml.LogContext", "false"));
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, net.minecraftforge.fml.common.eventhandler.Event.class);
+
+    private ForgeListenerCompiler() {
+    }
+
+    /**
+     * Compiles the given mod listener, falling back to invoking it through
+     * {@link IEventListener#invoke} if it can't be compiled.
+     *
+     * @param listener The mod listener
+     * @return The bridged listener
+     */
+    static BridgedListener compile(IEventListener listener) {
+        if (!(listener instanceof IMixinASMEventHandler)) {
+            return new ForgeListener(listener, false);
+        }
+        final IMixinASMEventHandler handler = (IMixinASMEventHandler) listener;
+        final Method method = handler.getHandlerMethod();
+        if (method == null) {
+            return new ForgeListener(listener, false);
+        }
+        final SubscribeEvent subscribeEvent = method.getAnnotation(SubscribeEvent.class);
+        final boolean receiveCanceled = subscribeEvent != null && subscribeEvent.receiveCanceled();
+        if (LOG_CONTEXT) {
+            return new ForgeListener(listener, !receiveCanceled);
+        }
+        try {
+            return new CompiledForgeListener(createInvoker(handler.getHandlerTarget(), method), receiveCanceled,
+                    handler.getTimingsHandler());
+        } catch (Throwable t) {
+            SpongeImpl.getLogger().debug("Could not compile mod listener {}, it will be invoked through Forge", method, t);
+            return new ForgeListener(listener, !receiveCanceled);
+        }
+    }
+
+    private static ForgeEventInvoker createInvoker(@Nullable Object target, Method method) throws Throwable {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle = lookup.unreflect(method);
+        final MethodType factoryType = target == null
+                ? MethodType.methodType(ForgeEventInvoker.class)
+                : MethodType.methodType(ForgeEventInvoker.class, method.getDeclaringClass());
+        final CallSite callSite = LambdaMetafactory.metafactory(lookup, "invoke", factoryType, INVOKER_TYPE, handle,
+                MethodType.methodType(void.class, method.getParameterTypes()[0]));
+        return target == null
+                ? (ForgeEventInvoker) callSite.getTarget().invoke()
+                : (ForgeEventInvoker) callSite.getTarget().invoke(target);
+    }
+
+    interface ForgeEventInvoker {
+
+        void invoke(net.minecraftforge.fml.common.eventhandler.Event event);
+    }
+
+    static final class CompiledForgeListener extends BridgedListener {
+
+        private final ForgeEventInvoker invoker;
+        private final Timing timingsHandler;
+
+        CompiledForgeListener(ForgeEventInvoker invoker, boolean receiveCanceled, Timing timingsHandler) {
+            super(null, !receiveCanceled);
+            this.invoker = invoker;
+            this.timingsHandler = timingsHandler;
+        }
+
+        @Override
+        void invoke(Event spongeEvent, @Nullable net.minecraftforge.fml.common.eventhandler.Event forgeEvent) {
+            // Same as ASMEventHandler, which is bypassed here
+            if (this.skipsCancelled && forgeEvent.isCanceled()) {
+                return;
+            }
+            try {
+                this.timingsHandler.startTimingIfSync();
+                this.invoker.invoke(forgeEvent);
+                this.timingsHandler.stopTimingIfSync();
+            } catch (Throwable throwable) {
+                SpongeImpl.getLogger().catching(throwable);
+            }
+        }
+    }
+}
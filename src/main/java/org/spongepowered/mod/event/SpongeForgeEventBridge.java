@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.mod.interfaces.IMixinEventBus;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * The route a concrete Sponge event class takes through the Forge event
+ * bus. These are resolved once per event class by the
+ * {@link SpongeModEventManager}, so posting an event does not have to walk
+ * the mappings in {@link SpongeForgeEventFactory} again.
+ */
+public final class SpongeForgeEventBridge {
+
+    public enum SyncStrategy {
+        /**
+         * A Forge event is created for the Sponge event and data is synced
+         * between the two through {@code IMixinEvent}.
+         */
+        FORGE_EVENT,
+        /**
+         * The Forge event is fired by one of the call helpers in
+         * {@link SpongeForgeEventFactory}, which applies the results back
+         * onto the Sponge event itself.
+         */
+        FORGE_CALL,
+        /**
+         * The event has no Forge counterpart, only plugins are notified.
+         */
+        NONE
+    }
+
+    static final SpongeForgeEventBridge NONE = new SpongeForgeEventBridge(SyncStrategy.NONE, null, null, null, null);
+
+    private final SyncStrategy syncStrategy;
+    @Nullable private final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeEventClass;
+    @Nullable private final EventBus forgeEventBus;
+    @Nullable private final Function<Event, net.minecraftforge.fml.common.eventhandler.Event> forgeEventFactory;
+    @Nullable private final Function<Event, Event> forgeEventCaller;
+    private final int busId;
+
+    private SpongeForgeEventBridge(SyncStrategy syncStrategy,
+            @Nullable Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeEventClass,
+            @Nullable EventBus forgeEventBus,
+            @Nullable Function<Event, net.minecraftforge.fml.common.eventhandler.Event> forgeEventFactory,
+            @Nullable Function<Event, Event> forgeEventCaller) {
+        this.syncStrategy = syncStrategy;
+        this.forgeEventClass = forgeEventClass;
+        this.forgeEventBus = forgeEventBus;
+        this.forgeEventFactory = forgeEventFactory;
+        this.forgeEventCaller = forgeEventCaller;
+        this.busId = forgeEventBus == null ? -1 : ((IMixinEventBus) forgeEventBus).getBusID();
+    }
+
+    public SyncStrategy getSyncStrategy() {
+        return this.syncStrategy;
+    }
+
+    @Nullable
+    public Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass() {
+        return this.forgeEventClass;
+    }
+
+    @Nullable
+    public EventBus getForgeEventBus() {
+        return this.forgeEventBus;
+    }
+
+    public int getBusId() {
+        return this.busId;
+    }
+
+    /**
+     * Creates the Forge event for the given Sponge event, only valid for
+     * {@link SyncStrategy#FORGE_EVENT}.
+     *
+     * @param spongeEvent The sponge event
+     * @return The forge event, or null if it could not be created
+     */
+    @Nullable
+    public net.minecraftforge.fml.common.eventhandler.Event createForgeEvent(Event spongeEvent) {
+        return this.forgeEventFactory.apply(spongeEvent);
+    }
+
+    /**
+     * Gets the function firing the Forge event for a Sponge event, only
+     * valid for {@link SyncStrategy#FORGE_CALL}.
+     *
+     * @return The forge event caller
+     */
+    @Nullable
+    public Function<Event, Event> getForgeEventCaller() {
+        return this.forgeEventCaller;
+    }
+
+    static SpongeForgeEventBridge resolve(Class<?> spongeEventClass,
+            Map<Class<? extends Event>, Class<? extends net.minecraftforge.fml.common.eventhandler.Event>> eventMappings) {
+        final Class<?>[] interfaces = spongeEventClass.getInterfaces();
+        if (interfaces.length == 0) {
+            return NONE;
+        }
+
+        Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz = eventMappings.get(interfaces[0]);
+        if (clazz != null) {
+            final Function<Event, net.minecraftforge.fml.common.eventhandler.Event> factory = SpongeForgeEventFactory.getForgeEventFactory(clazz);
+            if (factory == null) {
+                return NONE;
+            }
+            return new SpongeForgeEventBridge(SyncStrategy.FORGE_EVENT, clazz, SpongeForgeEventFactory.getForgeEventBus(clazz), factory, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        final Class<? extends Event> eventClass = (Class<? extends Event>) spongeEventClass;
+        clazz = SpongeForgeEventFactory.getForgeEventClass(eventClass);
+        if (clazz != null) {
+            return new SpongeForgeEventBridge(SyncStrategy.FORGE_CALL, clazz, SpongeForgeEventFactory.getForgeEventBus(clazz), null,
+                    SpongeForgeEventFactory.getForgeEventCaller(clazz));
+        }
+        return NONE;
+    }
+}
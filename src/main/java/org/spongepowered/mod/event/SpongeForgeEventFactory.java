@@ -163,23 +163,42 @@
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 public class SpongeForgeEventFactory {
 
+    // The bus for an event class never changes, so only walk the hierarchy once per class
+    private static final ClassValue<EventBus> FORGE_EVENT_BUSES = new ClassValue<EventBus>() {
+
+        @Override
+        protected EventBus computeValue(Class<?> type) {
+            return resolveForgeEventBus(type);
+        }
+    };
+
     public static net.minecraftforge.fml.common.eventhandler.Event findAndCreateForgeEvent(Event event,
             Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
+        final Function<Event, net.minecraftforge.fml.common.eventhandler.Event> factory = getForgeEventFactory(clazz);
+        return factory == null ? null : factory.apply(event);
+    }
 
+    // Resolves the function used to create the Forge event for a Sponge event, null if not currently supported
+    @Nullable
+    public static Function<Event, net.minecraftforge.fml.common.eventhandler.Event> getForgeEventFactory(
+            Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
         // Block events
         if (BlockEvent.class.isAssignableFrom(clazz)) {
             if (clazz == BlockEvent.NeighborNotifyEvent.class) {
 
             } else if (clazz == BlockEvent.HarvestDropsEvent.class) {
-                // return createBlockHarvestEvent(event);
+                // return SpongeForgeEventFactory::createBlockHarvestEvent;
             } else if (clazz == BlockEvent.MultiPlaceEvent.class ||
                     clazz == BlockEvent.PlaceEvent.class) {
-                return createBlockPlaceEvent(event);
+                return SpongeForgeEventFactory::createBlockPlaceEvent;
             } else {
-                return createBlockEvent(event);
+                return SpongeForgeEventFactory::createBlockEvent;
             }
         }
 
@@ -194,7 +213,7 @@ else if (PlayerEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == ArrowNockEvent.class) {
 
             } else if (clazz == AttackEntityEvent.class) {
-                return createAttackEntityEvent(event);
+                return SpongeForgeEventFactory::createAttackEntityEvent;
             } else if (clazz == BonemealEvent.class) {
 
             } else if (clazz == PlayerInteractEvent.EntityInteract.class) {
@@ -218,17 +237,17 @@ else if (PlayerEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == PlayerPickupXpEvent.class) {
 
             } else if (clazz == PlayerSleepInBedEvent.class) {
-                return createPlayerSleepInBedEvent(event);
+                return SpongeForgeEventFactory::createPlayerSleepInBedEvent;
             } else if (clazz == LivingEntityUseItemEvent.Start.class) {
-                return createPlayerUseItemStartEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemStartEvent;
             } else if (clazz == LivingEntityUseItemEvent.Tick.class) {
-                return createPlayerUseItemTickEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemTickEvent;
             } else if (clazz == LivingEntityUseItemEvent.Stop.class) {
-                return createPlayerUseItemStopEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemStopEvent;
             } else if (clazz == LivingEntityUseItemEvent.Finish.class) {
-                return createPlayerUseItemFinishEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemFinishEvent;
             } else {
-                return (net.minecraftforge.fml.common.eventhandler.Event) event;
+                return event -> (net.minecraftforge.fml.common.eventhandler.Event) event;
             }
         }
 
@@ -237,9 +256,9 @@ else if (LivingEvent.class.isAssignableFrom(clazz)) {
             if (clazz == LivingAttackEvent.class) {
 
             } else if (clazz == LivingDeathEvent.class) {
-                return createLivingDeathEvent(event);
+                return SpongeForgeEventFactory::createLivingDeathEvent;
             } else if (clazz == LivingDropsEvent.class) {
-                return createLivingDropItemEvent(event);
+                return SpongeForgeEventFactory::createLivingDropItemEvent;
             } else if (clazz == LivingExperienceDropEvent.class) {
 
             } else if (clazz == LivingFallEvent.class) {
@@ -255,7 +274,7 @@ else if (LivingEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == LivingSpawnEvent.class) {
 
             } else {
-                return createLivingEvent(event);
+                return SpongeForgeEventFactory::createLivingEvent;
             }
         }
 
@@ -268,20 +287,20 @@ else if (ItemEvent.class.isAssignableFrom(clazz)) {
                 // This is handled in SpongeImplHooks.onPlayerToss
                 return null;
             } else {
-                return createItemEvent(event);
+                return SpongeForgeEventFactory::createItemEvent;
             }
         }
 
         // Entity events
         else if (EntityEvent.class.isAssignableFrom(clazz)) {
             if (clazz == EntityEvent.EntityConstructing.class) {
-                return createEntityConstructingEvent(event);
+                return SpongeForgeEventFactory::createEntityConstructingEvent;
             } else if (clazz == EntityMountEvent.class) {
 
             } else if (clazz == EntityStruckByLightningEvent.class) {
 
             } else {
-                return createEntityEvent(event);
+                return SpongeForgeEventFactory::createEntityEvent;
             }
         }
 
@@ -289,9 +308,9 @@ else if (EntityEvent.class.isAssignableFrom(clazz)) {
         else if (WorldEvent.class.isAssignableFrom(clazz)) {
             if (ChunkEvent.class.isAssignableFrom(clazz)) {
                 if (clazz == ChunkEvent.Load.class) {
-                    return createChunkLoadEvent(event);
+                    return SpongeForgeEventFactory::createChunkLoadEvent;
                 } else if (clazz == ChunkEvent.Unload.class) {
-                    return createChunkUnloadEvent(event);
+                    return SpongeForgeEventFactory::createChunkUnloadEvent;
                 } else if (clazz == ChunkDataEvent.Load.class) {
 
                 } else if (clazz == ChunkDataEvent.Save.class) {
@@ -301,29 +320,29 @@ else if (WorldEvent.class.isAssignableFrom(clazz)) {
                 } else if (clazz == ChunkWatchEvent.Watch.class) {
 
                 }
-                return createChunkEvent(event);
+                return SpongeForgeEventFactory::createChunkEvent;
             } else if (clazz == WorldEvent.Load.class) {
             } else if (clazz == WorldEvent.Unload.class) {
             } else if (clazz == WorldEvent.Save.class) {
             } else {
-                return createWorldEvent(event);
+                return SpongeForgeEventFactory::createWorldEvent;
             }
         }
 
         // Explosion events
         else if (net.minecraftforge.event.world.ExplosionEvent.class.isAssignableFrom(clazz)) {
             if (clazz == net.minecraftforge.event.world.ExplosionEvent.Start.class) {
-                return createExplosionStartEvent(event);
+                return SpongeForgeEventFactory::createExplosionStartEvent;
             } else if (clazz == net.minecraftforge.event.world.ExplosionEvent.Detonate.class) {
-                return createExplosionDetonateEvent(event);
+                return SpongeForgeEventFactory::createExplosionDetonateEvent;
             } else {
-                return createExplosionEvent(event);
+                return SpongeForgeEventFactory::createExplosionEvent;
             }
         }
 
         // Server events
         else if (clazz == ServerChatEvent.class) {
-            return createServerChatEvent(event);
+            return SpongeForgeEventFactory::createServerChatEvent;
         }
 
         // return null if not currently supported
@@ -390,6 +409,10 @@ public static Class<? extends net.minecraftforge.fml.common.eventhandler.Event>
     }
 
     public static EventBus getForgeEventBus(Class<?> clazz) {
+        return FORGE_EVENT_BUSES.get(clazz);
+    }
+
+    private static EventBus resolveForgeEventBus(Class<?> clazz) {
         if (OreGenEvent.class.isAssignableFrom(clazz)) {
             return MinecraftForge.ORE_GEN_BUS;
         } else if (WorldTypeEvent.class.isAssignableFrom(clazz)
@@ -407,38 +430,43 @@ public static EventBus getForgeEventBus(Class<?> clazz) {
 
     // Used for firing Forge events after a Sponge event has been triggered
     public static Event callForgeEvent(Event spongeEvent, Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
+        return getForgeEventCaller(clazz).apply(spongeEvent);
+    }
+
+    // Resolves the function used to fire the Forge event for a Sponge event
+    public static Function<Event, Event> getForgeEventCaller(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
         if (EntityItemPickupEvent.class.isAssignableFrom(clazz)) {
-            return callEntityItemPickupEvent(spongeEvent);
+            return SpongeForgeEventFactory::callEntityItemPickupEvent;
         } else if (PlayerInteractEvent.EntityInteract.class.isAssignableFrom(clazz)) {
-            return callEntityInteractEvent(spongeEvent);
+            return SpongeForgeEventFactory::callEntityInteractEvent;
         } else if (BlockEvent.NeighborNotifyEvent.class.isAssignableFrom(clazz)) {
-            return callNeighborNotifyEvent(spongeEvent);
+            return SpongeForgeEventFactory::callNeighborNotifyEvent;
         } else if (BlockEvent.PlaceEvent.class.isAssignableFrom(clazz)) {
-            return callBlockPlaceEvent(spongeEvent);
+            return SpongeForgeEventFactory::callBlockPlaceEvent;
         } else if (PlayerInteractEvent.class.isAssignableFrom(clazz)) {
-            return createPlayerInteractEvent(spongeEvent);
+            return SpongeForgeEventFactory::createPlayerInteractEvent;
         } else if (LivingDropsEvent.class.isAssignableFrom(clazz)) {
-            return callLivingDropsEvent(spongeEvent);
+            return SpongeForgeEventFactory::callLivingDropsEvent;
         } else if (ItemTossEvent.class.isAssignableFrom(clazz)) {
-            return callItemTossEvent(spongeEvent);
+            return SpongeForgeEventFactory::callItemTossEvent;
         } else if (PlayerLoggedInEvent.class.isAssignableFrom(clazz)) {
-            return callPlayerLoggedInEvent(spongeEvent);
+            return SpongeForgeEventFactory::callPlayerLoggedInEvent;
         } else if (PlayerLoggedOutEvent.class.isAssignableFrom(clazz)) {
-            return callPlayerLoggedOutEvent(spongeEvent);
+            return SpongeForgeEventFactory::callPlayerLoggedOutEvent;
         } else if (PlayerRespawnEvent.class.isAssignableFrom(clazz)) {
-            return callPlayerRespawnEvent(spongeEvent);
+            return SpongeForgeEventFactory::callPlayerRespawnEvent;
         } else if (EntityTravelToDimensionEvent.class.isAssignableFrom(clazz)) {
-            return callEntityTravelToDimensionEvent(spongeEvent);
+            return SpongeForgeEventFactory::callEntityTravelToDimensionEvent;
         } else if (EntityJoinWorldEvent.class.isAssignableFrom(clazz)) {
-            return callEntityJoinWorldEvent(spongeEvent);
+            return SpongeForgeEventFactory::callEntityJoinWorldEvent;
         } else if (WorldEvent.Unload.class.isAssignableFrom(clazz)) {
-            return callWorldUnloadEvent(spongeEvent);
+            return SpongeForgeEventFactory::callWorldUnloadEvent;
         } else if (WorldEvent.Load.class.isAssignableFrom(clazz)) {
-            return callWorldLoadEvent(spongeEvent);
+            return SpongeForgeEventFactory::callWorldLoadEvent;
         } else if (WorldEvent.Save.class.isAssignableFrom(clazz)) {
-            return callWorldSaveEvent(spongeEvent);
+            return SpongeForgeEventFactory::callWorldSaveEvent;
         }
-        return spongeEvent;
+        return Function.identity();
     }
 
     private static LivingDropsEvent createLivingDropItemEvent(Event event) {
@@ -824,6 +852,10 @@ private static InteractBlockEvent createPlayerInteractEvent(Event event) {
         }
 
         InteractBlockEvent spongeEvent = (InteractBlockEvent) event;
+        if (!hasForgeListeners(spongeEvent instanceof InteractBlockEvent.Primary
+                ? PlayerInteractEvent.LeftClickBlock.class : PlayerInteractEvent.RightClickBlock.class)) {
+            return spongeEvent;
+        }
         Optional<Player> player = spongeEvent.getCause().first(Player.class);
         // Forge doesn't support left-click AIR
         if (!player.isPresent() || (spongeEvent instanceof InteractBlockEvent.Primary && spongeEvent.getTargetBlock() == BlockSnapshot.NONE)) {
@@ -874,6 +906,11 @@ private static InteractBlockEvent createPlayerInteractEvent(Event event) {
         return spongeEvent;
     }
 
+    // Whether posting the given event on the main Forge bus would reach any mod at all
+    private static boolean hasForgeListeners(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> eventClass) {
+        return EventListenerMask.hasForgeListeners(eventClass, MinecraftForge.EVENT_BUS);
+    }
+
     private static Tristate getTristateFromResult(Result result) {
         if (result == Result.ALLOW) {
             return Tristate.TRUE;
@@ -890,6 +927,9 @@ public static ChangeInventoryEvent.Pickup callEntityItemPickupEvent(Event event)
         }
 
         ChangeInventoryEvent.Pickup spongeEvent = (ChangeInventoryEvent.Pickup) event;
+        if (!hasForgeListeners(EntityItemPickupEvent.class)) {
+            return spongeEvent;
+        }
         EntityItem entityItem = (EntityItem) spongeEvent.getTargetEntity();
         EntityItemPickupEvent forgeEvent =
                 new EntityItemPickupEvent((EntityPlayer) spongeEvent.getCause().first(Player.class).get(), entityItem);
@@ -927,6 +967,9 @@ public static DropItemEvent.Destruct callLivingDropsEvent(Event event) {
         }
 
         DropItemEvent.Destruct spongeEvent = (DropItemEvent.Destruct) event;
+        if (!hasForgeListeners(LivingDropsEvent.class)) {
+            return spongeEvent;
+        }
         Object source = spongeEvent.getCause().root();
         Optional<DamageSource> damageSource = spongeEvent.getCause().first(DamageSource.class);
         if (!(source instanceof EntitySpawnCause) || !damageSource.isPresent()) {
@@ -975,14 +1018,16 @@ public static DropItemEvent.Dispense callItemTossEvent(Event event) {
             return spongeEvent;
         }
 
-        ItemTossEvent forgeEvent = new ItemTossEvent(item, (EntityPlayerMP) entity);
-        ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(forgeEvent, true);
-        if (forgeEvent.isCanceled()) {
-            spongeEvent.setCancelled(true);
-        } else {
-            // Forge treats EntityJoinWorldEvent separately from Toss so we need to call it here
-            callEntityJoinWorldEvent(spongeEvent);
+        if (hasForgeListeners(ItemTossEvent.class)) {
+            ItemTossEvent forgeEvent = new ItemTossEvent(item, (EntityPlayerMP) entity);
+            ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(forgeEvent, true);
+            if (forgeEvent.isCanceled()) {
+                spongeEvent.setCancelled(true);
+                return spongeEvent;
+            }
         }
+        // Forge treats EntityJoinWorldEvent separately from Toss so we need to call it here
+        callEntityJoinWorldEvent(spongeEvent);
 
         return spongeEvent;
     }
@@ -993,20 +1038,22 @@ public static SpawnEntityEvent callEntityJoinWorldEvent(Event event) {
         }
 
         SpawnEntityEvent spongeEvent = (SpawnEntityEvent) event;
-        ListIterator<org.spongepowered.api.entity.Entity> iterator = spongeEvent.getEntities().listIterator();
+        if (hasForgeListeners(EntityJoinWorldEvent.class)) {
+            ListIterator<org.spongepowered.api.entity.Entity> iterator = spongeEvent.getEntities().listIterator();
 
-        while (iterator.hasNext()) {
-            org.spongepowered.api.entity.Entity entity = iterator.next();
-            EntityJoinWorldEvent forgeEvent = new EntityJoinWorldEvent((net.minecraft.entity.Entity) entity,
-                    (net.minecraft.world.World) entity.getLocation().getExtent());
+            while (iterator.hasNext()) {
+                org.spongepowered.api.entity.Entity entity = iterator.next();
+                EntityJoinWorldEvent forgeEvent = new EntityJoinWorldEvent((net.minecraft.entity.Entity) entity,
+                        (net.minecraft.world.World) entity.getLocation().getExtent());
 
-            boolean prev = StaticMixinForgeHelper.preventInternalForgeEntityListener;
-            StaticMixinForgeHelper.preventInternalForgeEntityListener = true;
-            ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(forgeEvent, true);
-            StaticMixinForgeHelper.preventInternalForgeEntityListener = prev;
+                boolean prev = StaticMixinForgeHelper.preventInternalForgeEntityListener;
+                StaticMixinForgeHelper.preventInternalForgeEntityListener = true;
+                ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(forgeEvent, true);
+                StaticMixinForgeHelper.preventInternalForgeEntityListener = prev;
 
-            if (forgeEvent.isCanceled()) {
-                iterator.remove();
+                if (forgeEvent.isCanceled()) {
+                    iterator.remove();
+                }
             }
         }
         if (spongeEvent.getEntities().size() == 0) {
@@ -1081,6 +1128,9 @@ public static NotifyNeighborBlockEvent callNeighborNotifyEvent(Event event) {
         }
 
         NotifyNeighborBlockEvent spongeEvent = (NotifyNeighborBlockEvent) event;
+        if (!hasForgeListeners(NeighborNotifyEvent.class)) {
+            return spongeEvent;
+        }
         Optional<BlockSnapshot> blockSnapshot = spongeEvent.getCause().first(BlockSnapshot.class);
         Optional<TileEntity> tileEntitySource = spongeEvent.getCause().first(TileEntity.class);
         Location<World> sourceLocation = null;
@@ -1125,7 +1175,7 @@ public static ChangeBlockEvent.Place callBlockPlaceEvent(Event event) {
 
         ChangeBlockEvent.Place spongeEvent = (ChangeBlockEvent.Place) event;
 
-        if (spongeEvent.getCause().root() instanceof Player) {
+        if (spongeEvent.getCause().root() instanceof Player && hasForgeListeners(BlockEvent.PlaceEvent.class)) {
             EntityPlayer player = (EntityPlayer) spongeEvent.getCause().first(Player.class).get();
             net.minecraft.world.World world = (net.minecraft.world.World) spongeEvent.getTargetWorld();
             final CauseTracker causeTracker = ((IMixinWorldServer) world).getCauseTracker();
@@ -1187,6 +1237,9 @@ private static InteractEntityEvent.Secondary callEntityInteractEvent(Event event
         }
 
         InteractEntityEvent.Secondary spongeEvent = (InteractEntityEvent.Secondary) event;
+        if (!hasForgeListeners(PlayerInteractEvent.EntityInteract.class)) {
+            return spongeEvent;
+        }
         Optional<Player> player = spongeEvent.getCause().first(Player.class);
         if (!player.isPresent()) {
             return null;
@@ -1213,6 +1266,9 @@ private static ClientConnectionEvent.Join callPlayerLoggedInEvent(Event event) {
         }
 
         ClientConnectionEvent.Join spongeEvent = (ClientConnectionEvent.Join) event;
+        if (!hasForgeListeners(PlayerLoggedInEvent.class)) {
+            return spongeEvent;
+        }
         PlayerLoggedInEvent fmlEvent = new PlayerLoggedInEvent((EntityPlayer) spongeEvent.getTargetEntity());
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(fmlEvent, true);
 
@@ -1225,6 +1281,9 @@ private static ClientConnectionEvent.Disconnect callPlayerLoggedOutEvent(Event e
         }
 
         ClientConnectionEvent.Disconnect spongeEvent = (ClientConnectionEvent.Disconnect) event;
+        if (!hasForgeListeners(PlayerLoggedOutEvent.class)) {
+            return spongeEvent;
+        }
         PlayerLoggedOutEvent fmlEvent = new PlayerLoggedOutEvent((EntityPlayer) spongeEvent.getTargetEntity());
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(fmlEvent, true);
 
@@ -1237,6 +1296,9 @@ private static RespawnPlayerEvent callPlayerRespawnEvent(Event event) {
         }
 
         RespawnPlayerEvent spongeEvent = (RespawnPlayerEvent) event;
+        if (!hasForgeListeners(PlayerRespawnEvent.class)) {
+            return spongeEvent;
+        }
         PlayerRespawnEvent fmlEvent = new PlayerRespawnEvent((EntityPlayer) spongeEvent.getTargetEntity());
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(fmlEvent, true);
 
@@ -1271,6 +1333,9 @@ private static SaveWorldEvent callWorldSaveEvent(Event event) {
         }
 
         SaveWorldEvent spongeEvent = (SaveWorldEvent) event;
+        if (!hasForgeListeners(WorldEvent.Save.class)) {
+            return spongeEvent;
+        }
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(new WorldEvent.Save((net.minecraft.world.World) spongeEvent.getTargetWorld()), true);
 
         return spongeEvent;
@@ -1282,6 +1347,9 @@ private static LoadWorldEvent callWorldLoadEvent(Event event) {
         }
 
         LoadWorldEvent spongeEvent = (LoadWorldEvent) event;
+        if (!hasForgeListeners(WorldEvent.Load.class)) {
+            return spongeEvent;
+        }
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(new WorldEvent.Load((net.minecraft.world.World) spongeEvent.getTargetWorld()), true);
 
         return spongeEvent;
@@ -1293,6 +1361,9 @@ private static UnloadWorldEvent callWorldUnloadEvent(Event event) {
         }
 
         UnloadWorldEvent spongeEvent = (UnloadWorldEvent) event;
+        if (!hasForgeListeners(WorldEvent.Unload.class)) {
+            return spongeEvent;
+        }
         ((IMixinEventBus) MinecraftForge.EVENT_BUS).post(new WorldEvent.Unload((net.minecraft.world.World) spongeEvent.getTargetWorld()), true);
 
         return spongeEvent;
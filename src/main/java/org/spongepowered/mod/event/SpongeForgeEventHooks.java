@@ -24,154 +24,166 @@
  */
 package org.spongepowered.mod.event;
 
-import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.common.eventhandler.IEventListener;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.world.WorldManager;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Switches worlds into the listener phases while mods listen to tick events.
+ *
+ * <p>Mods tend to change any world from their tick listeners, not just the
+ * ticking one. Rather than switching the phase of every world around every
+ * listener, a world enters the listener phase the first time its
+ * {@link CauseTracker} is used by a listener of a tick event, which is where
+ * block changes and entity spawns are routed through. It then stays in that
+ * phase until another listener uses it, which completes the phase and enters
+ * it again with that listener as the source, or until all listeners of the
+ * tick event have been invoked.</p>
+ */
 public final class SpongeForgeEventHooks {
 
+    // The trackers which entered the listener phase of the current tick event, in order
+    private static final List<CauseTracker> enteredCauseTrackers = new ArrayList<>();
+    @Nullable private static Event tickEvent;
+    @Nullable private static IPhaseState listenerState;
+    @Nullable private static IEventListener currentListener;
+    // Non zero while listeners of a tick event are invoked, a new pass starts with every listener and
+    // worlds enter the listener phase at most once per pass
+    private static int listenerPass;
+    private static int lastListenerPass;
+    private static boolean enteringListenerPhase;
+
+    private SpongeForgeEventHooks() {
+    }
 
     public static void preEventPhaseCheck(IEventListener listener, Event event) {
         if (!CauseTracker.ENABLED) {
             return;
         }
-        if (event instanceof TickEvent.WorldTickEvent) {
-            final TickEvent.WorldTickEvent worldTickEvent = (TickEvent.WorldTickEvent) event;
-            if (!(worldTickEvent.world instanceof IMixinWorldServer)) {
+        if (event != tickEvent) {
+            final IPhaseState state = getListenerState(event);
+            if (state == null) {
                 return;
             }
-            if (worldTickEvent.phase == TickEvent.Phase.START) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.switchToPhase(PluginPhase.Listener.PRE_WORLD_TICK_LISTENER, PhaseContext.start()
-                        .add(NamedCause.source(listener))
-                        .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                        .addCaptures()
-                        .player()
-                        .complete()
-                    );
-                // Need to prepare all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.PRE_WORLD_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-
-                }
-            } else if (worldTickEvent.phase == TickEvent.Phase.END) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.switchToPhase(PluginPhase.Listener.POST_WORLD_TICK_LISTENER, PhaseContext.start()
-                        .add(NamedCause.source(listener))
-                        .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                        .addCaptures()
-                        .player()
-                        .complete()
-                );
-                // Need to prepare all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.POST_WORLD_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
-            }
+            completeListenerPhases(tickEvent);
+            tickEvent = event;
+            listenerState = state;
         }
-        // Basically some forge mods also listen to the server tick event and perform world changes as well...........
-        if (event instanceof TickEvent.ServerTickEvent) {
-            final TickEvent.ServerTickEvent serverTickEvent = (TickEvent.ServerTickEvent) event;
-            if (serverTickEvent.phase == TickEvent.Phase.START) {
-                // Need to prepare all worlds many mods do this
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.PRE_SERVER_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
-            } else if (serverTickEvent.phase == TickEvent.Phase.END) {
-                // Need to prepare all worlds many mods use this
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.POST_SERVER_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
+        if (listener != currentListener) {
+            currentListener = listener;
+            if (++lastListenerPass == 0) {
+                lastListenerPass = 1;
             }
+            listenerPass = lastListenerPass;
         }
     }
 
-    public static void postEventPhaseCheck(IEventListener listener, Event event) {
-        if (!CauseTracker.ENABLED) {
-            return;
+    /**
+     * Completes the listener phases entered by worlds during the listeners
+     * of the given event, once all listeners were invoked.
+     *
+     * @param event The event that was posted
+     */
+    public static void postEventPhaseCheck(@Nullable Event event) {
+        if (event != null && event == tickEvent) {
+            completeListenerPhases(event);
+        }
+    }
+
+    /**
+     * Gets the current listener pass, worlds need to enter its phase once
+     * before being changed.
+     *
+     * @return The current listener pass, or 0 if there is none
+     */
+    public static int getListenerPass() {
+        return listenerPass;
+    }
+
+    /**
+     * Switches the given tracker into the listener phase of the current
+     * listener, completing the phase it entered for a previous listener of
+     * the same tick event first.
+     *
+     * @param pass The listener pass to enter
+     * @param causeTracker The cause tracker of the world
+     * @return True if the world is done with the pass, false if it has to
+     *     be entered again later on
+     */
+    public static boolean enterListenerPhase(int pass, CauseTracker causeTracker) {
+        // Worlds used while completing the phase of the previous listener stay in that phase
+        if (pass != listenerPass || enteringListenerPhase || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return false;
+        }
+        if (enteredCauseTrackers.contains(causeTracker)) {
+            enteringListenerPhase = true;
+            try {
+                causeTracker.completePhase();
+            } finally {
+                enteringListenerPhase = false;
+            }
+        } else {
+            enteredCauseTrackers.add(causeTracker);
         }
+        causeTracker.switchToPhase(listenerState, PhaseContext.start()
+                .add(NamedCause.source(currentListener))
+                .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, tickEvent))
+                .addCaptures()
+                .player()
+                .complete()
+        );
+        return true;
+    }
+
+    @Nullable
+    private static IPhaseState getListenerState(Event event) {
         if (event instanceof TickEvent.WorldTickEvent) {
             final TickEvent.WorldTickEvent worldTickEvent = (TickEvent.WorldTickEvent) event;
             if (!(worldTickEvent.world instanceof IMixinWorldServer)) {
-                return;
-            }
-            if (worldTickEvent.phase == TickEvent.Phase.START) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.completePhase();
-                // Need to complete all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            } else if (worldTickEvent.phase == TickEvent.Phase.END) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.completePhase();
-                // Need to complete all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
+                return null;
             }
+            return worldTickEvent.phase == TickEvent.Phase.START
+                    ? PluginPhase.Listener.PRE_WORLD_TICK_LISTENER
+                    : PluginPhase.Listener.POST_WORLD_TICK_LISTENER;
         }
         // Basically some forge mods also listen to the server tick event and perform world changes as well...........
         if (event instanceof TickEvent.ServerTickEvent) {
-            final TickEvent.ServerTickEvent serverTickEvent = (TickEvent.ServerTickEvent) event;
-            if (serverTickEvent.phase == TickEvent.Phase.START) {
+            return ((TickEvent.ServerTickEvent) event).phase == TickEvent.Phase.START
+                    ? PluginPhase.Listener.PRE_SERVER_TICK_LISTENER
+                    : PluginPhase.Listener.POST_SERVER_TICK_LISTENER;
+        }
+        return null;
+    }
 
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            } else if (serverTickEvent.phase == TickEvent.Phase.END) {
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            }
+    private static void completeListenerPhases(@Nullable Event event) {
+        if (event == null) {
+            return;
+        }
+        // Reset first, worlds used while unwinding the phases must not enter the finished pass
+        tickEvent = null;
+        listenerState = null;
+        currentListener = null;
+        listenerPass = 0;
+        if (enteredCauseTrackers.isEmpty()) {
+            return;
+        }
+        final CauseTracker[] causeTrackers = enteredCauseTrackers.toArray(new CauseTracker[enteredCauseTrackers.size()]);
+        enteredCauseTrackers.clear();
+        for (CauseTracker causeTracker : causeTrackers) {
+            causeTracker.completePhase();
         }
     }
 }
@@ -27,7 +27,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.TimingsManager;
-import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import net.minecraftforge.event.CommandEvent;
@@ -70,12 +69,12 @@
 import net.minecraftforge.event.world.ExplosionEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.ModContainer;
-import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.IEventListener;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.action.LightningEvent;
 import org.spongepowered.api.event.action.SleepingEvent;
@@ -112,25 +111,22 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.mod.SpongeMod;
-import org.spongepowered.mod.interfaces.IMixinASMEventHandler;
+import org.spongepowered.mod.event.BridgedListenerCache.BridgedListener;
 import org.spongepowered.mod.interfaces.IMixinEvent;
-import org.spongepowered.mod.interfaces.IMixinEventBus;
 import org.spongepowered.mod.interfaces.IMixinLoadController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 public class SpongeModEventManager extends SpongeEventManager {
 
-    @SuppressWarnings("unused") private final ImmutableBiMap<EventPriority, Order> priorityMappings =
-            new ImmutableBiMap.Builder<EventPriority, Order>()
-                    .put(EventPriority.HIGHEST, Order.FIRST)
-                    .put(EventPriority.HIGH, Order.EARLY)
-                    .put(EventPriority.NORMAL, Order.DEFAULT)
-                    .put(EventPriority.LOW, Order.LATE)
-                    .put(EventPriority.LOWEST, Order.LAST)
-                    .build();
+    // Opt-in, as cancelled events then no longer reach listeners in between that ignore them, including priority markers
+    private static final boolean SKIP_CANCELLED_LISTENERS = Boolean.getBoolean("sponge.event.skipCancelledListeners");
 
     private final ImmutableMap<Class<? extends Event>, Class<? extends net.minecraftforge.fml.common.eventhandler.Event>> eventMappings =
             new ImmutableMap.Builder<Class<? extends Event>, Class<? extends net.minecraftforge.fml.common.eventhandler.Event>>()
@@ -152,6 +148,16 @@ public class SpongeModEventManager extends SpongeEventManager {
                     .put(org.spongepowered.api.event.world.ExplosionEvent.Detonate.class, ExplosionEvent.Detonate.class)
                     .build();
 
+    private final Map<Class<? extends Event>, BridgedListenerCache> bridgedListeners = new ConcurrentHashMap<>();
+
+    // Resolved once per concrete event class, see SpongeForgeEventBridge
+    private final ClassValue<SpongeForgeEventBridge> eventBridges = new ClassValue<SpongeForgeEventBridge>() {
+
+        @Override
+        protected SpongeForgeEventBridge computeValue(Class<?> type) {
+            return SpongeForgeEventBridge.resolve(type, SpongeModEventManager.this.eventMappings);
+        }
+    };
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	Class<? extends Event>[] useItemStack = new Class[] {UseItemStackEvent.Start.class, UseItemStackEvent.Tick.class, UseItemStackEvent.Stop.class, UseItemStackEvent.Finish.class, UseItemStackEvent.Replace.class, UseItemStackEvent.Reset.class};
@@ -262,33 +268,22 @@ public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandle
         if (spongeEvent == null) { // Fired by Forge
             spongeEvent = ((IMixinEvent) forgeEvent).createSpongeEvent();
         }
-        RegisteredListener.Cache listenerCache = getHandlerCache(spongeEvent);
+        final BridgedListenerCache listenerCache = getBridgedListeners(spongeEvent, listeners);
+        final IMixinLoadController controller = (IMixinLoadController) SpongeMod.instance.getController();
+        final Cancellable spongeCancellable = getCancellable(spongeEvent);
         // Fire events to plugins before modifications
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), true, false);
-        }
+        post(controller, spongeEvent, forgeEvent, listenerCache, 0, listenerCache.forgeStart, spongeCancellable);
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
-        // If there are no forge listeners for event, skip sync
-        if (listeners.length > 0) {
+        // If there are no forge listeners for event, or none that would receive the cancelled event, skip sync
+        if (listenerCache.hasForgeListeners()
+                && !(spongeCancellable != null && spongeCancellable.isCancelled() && listenerCache.forgeListenersSkipCancelled())) {
             // sync plugin data for Mods
             ((IMixinEvent) forgeEvent).syncDataToForge(spongeEvent);
             TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
-            for (IEventListener listener : listeners) {
-                try {
-                    if (listener instanceof IMixinASMEventHandler) {
-                        IMixinASMEventHandler modListener = (IMixinASMEventHandler) listener;
-                        modListener.getTimingsHandler().startTimingIfSync();
-                        listener.invoke(forgeEvent);
-                        modListener.getTimingsHandler().stopTimingIfSync();
-                    } else {
-                        listener.invoke(forgeEvent);
-                    }
-                } catch (Throwable throwable) {
-                    SpongeImpl.getLogger().catching(throwable);
-                }
-            }
+            post(controller, spongeEvent, forgeEvent, listenerCache, listenerCache.forgeStart, listenerCache.forgeEnd,
+                    forgeEvent.isCancelable() ? getCancellable(forgeEvent) : null);
             TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
 
             // sync Forge data for Plugins
@@ -297,9 +292,7 @@ public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandle
 
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         // Fire events to plugins after modifications (default)
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), false, false);
-        }
+        post(controller, spongeEvent, forgeEvent, listenerCache, listenerCache.forgeEnd, listenerCache.listeners.length, spongeCancellable);
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         // sync plugin data for Forge
@@ -317,54 +310,153 @@ public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandle
 
     // Uses SpongeForgeEventFactory (required for any events shared in SpongeCommon)
     public boolean post(Event spongeEvent, Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
-        RegisteredListener.Cache listenerCache = getHandlerCache(spongeEvent);
+        return post(spongeEvent, SpongeForgeEventFactory.getForgeEventCaller(clazz));
+    }
+
+    private boolean post(Event spongeEvent, Function<Event, Event> forgeEventCaller) {
+        final BridgedListenerCache listenerCache = getBridgedListeners(spongeEvent, null);
+        final IMixinLoadController controller = (IMixinLoadController) SpongeMod.instance.getController();
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
 
         SpongeForgeEventFactory.handlePrefireLogic(spongeEvent);
 
         // Fire events to plugins before modifications
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), true, false);
-        }
+        post(controller, spongeEvent, null, listenerCache, 0, listenerCache.forgeStart, getCancellable(spongeEvent));
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
         SpongeCommonEventFactory.processingInternalForgeEvent = true;
-        spongeEvent = SpongeForgeEventFactory.callForgeEvent(spongeEvent, clazz);
+        spongeEvent = forgeEventCaller.apply(spongeEvent);
         SpongeCommonEventFactory.processingInternalForgeEvent = false;
         TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
 
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         // Fire events to plugins after modifications (default)
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), false, false);
-        }
+        post(controller, spongeEvent, null, listenerCache, listenerCache.forgeEnd, listenerCache.listeners.length,
+                getCancellable(spongeEvent));
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         return spongeEvent instanceof Cancellable && ((Cancellable) spongeEvent).isCancelled();
     }
 
+    /**
+     * Gets the cancellable to check while invoking listeners, if cancelled
+     * events should skip the listeners ignoring them.
+     *
+     * @param event The event, either a plugin or a mod event
+     * @return The cancellable event, or null to invoke every listener
+     */
+    @Nullable
+    private static Cancellable getCancellable(Object event) {
+        return SKIP_CANCELLED_LISTENERS && event instanceof Cancellable ? (Cancellable) event : null;
+    }
+
+    // The active container only changes where the owning plugin does, listeners are grouped by plugin
+    private static void post(IMixinLoadController controller, Event spongeEvent,
+            @Nullable net.minecraftforge.fml.common.eventhandler.Event forgeEvent, BridgedListenerCache listenerCache, int from, int to,
+            @Nullable Cancellable cancellable) {
+        if (from == to) {
+            return;
+        }
+        final BridgedListener[] listeners = listenerCache.listeners;
+        final ModContainer oldContainer = controller.getActiveModContainer();
+        ModContainer activeContainer = oldContainer;
+        for (int index = from; index < to; index++) {
+            if (cancellable != null && cancellable.isCancelled()) {
+                index = listenerCache.cancelledExits[index];
+                if (index == to) {
+                    break;
+                }
+            }
+            final BridgedListener listener = listeners[index];
+            if (listener.plugin != null && listener.plugin != activeContainer) {
+                activeContainer = listener.plugin;
+                controller.setActiveModContainer(activeContainer);
+            }
+            listener.invoke(spongeEvent, forgeEvent);
+        }
+        if (activeContainer != oldContainer) {
+            controller.setActiveModContainer(oldContainer);
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    protected static boolean post(Event event, List<RegisteredListener<?>> listeners, boolean beforeModifications, boolean forced) {
-        ModContainer oldContainer = ((IMixinLoadController) SpongeMod.instance.getController()).getActiveModContainer();
+    protected static boolean post(Event event, List<RegisteredListener<?>> listeners) {
+        final IMixinLoadController controller = (IMixinLoadController) SpongeMod.instance.getController();
+        final ModContainer oldContainer = controller.getActiveModContainer();
+        ModContainer activeContainer = oldContainer;
         for (@SuppressWarnings("rawtypes")
         RegisteredListener listener : listeners) {
-            ((IMixinLoadController) SpongeMod.instance.getController()).setActiveModContainer((ModContainer) listener.getPlugin());
+            if (listener.getPlugin() != activeContainer) {
+                activeContainer = (ModContainer) listener.getPlugin();
+                controller.setActiveModContainer(activeContainer);
+            }
             try {
-                if (forced || (!listener.isBeforeModifications() && !beforeModifications)
-                        || (listener.isBeforeModifications() && beforeModifications)) {
-                    listener.getTimingsHandler().startTimingIfSync();
-                    listener.handle(event);
-                    listener.getTimingsHandler().stopTimingIfSync();
-                }
+                listener.getTimingsHandler().startTimingIfSync();
+                listener.handle(event);
+                listener.getTimingsHandler().stopTimingIfSync();
             } catch (Throwable e) {
                 SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), e);
             }
         }
-        ((IMixinLoadController) SpongeMod.instance.getController()).setActiveModContainer(oldContainer);
+        if (activeContainer != oldContainer) {
+            controller.setActiveModContainer(oldContainer);
+        }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    // The baked listeners are only replaced once the listeners of either side have changed
+    private BridgedListenerCache getBridgedListeners(Event spongeEvent, @Nullable IEventListener[] forgeListeners) {
+        final Class<? extends Event> eventClass = spongeEvent.getClass();
+        final BridgedListenerCache previous = this.bridgedListeners.get(eventClass);
+        final BridgedListenerCache listenerCache = BridgedListenerCache.bake(previous, getHandlerCache(spongeEvent), forgeListeners);
+        if (listenerCache != previous) {
+            this.bridgedListeners.put(eventClass, listenerCache);
+        }
+        return listenerCache;
+    }
+
+    public boolean hasListeners(Event event) {
+        return !getHandlerCache(event).getListeners().isEmpty();
+    }
+
+    @Override
+    public void registerListeners(Object plugin, Object obj) {
+        super.registerListeners(plugin, obj);
+        EventListenerMask.invalidate();
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        super.registerListener(plugin, eventClass, listener);
+        EventListenerMask.invalidate();
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        super.registerListener(plugin, eventClass, order, listener);
+        EventListenerMask.invalidate();
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        super.registerListener(plugin, eventClass, order, beforeModifications, listener);
+        EventListenerMask.invalidate();
+    }
+
+    @Override
+    public void unregisterListeners(Object listener) {
+        super.unregisterListeners(listener);
+        EventListenerMask.invalidate();
+    }
+
+    @Override
+    public void unregisterPluginListeners(Object plugin) {
+        super.unregisterPluginListeners(plugin);
+        EventListenerMask.invalidate();
+    }
+
     @Override
     public boolean post(Event event) {
         return this.post(event, false);
@@ -376,26 +468,26 @@ public boolean post(Event spongeEvent, boolean allowClientThread) {
             return false;
         }
 
-        if (spongeEvent.getClass().getInterfaces().length > 0) {
-            Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz =
-                    this.eventMappings.get(spongeEvent.getClass().getInterfaces()[0]);
-            if (clazz == null) {
-                clazz = SpongeForgeEventFactory.getForgeEventClass(spongeEvent.getClass());
-                if (clazz != null) {
-                    return post(spongeEvent, clazz);
+        final SpongeForgeEventBridge bridge = this.eventBridges.get(spongeEvent.getClass());
+        switch (bridge.getSyncStrategy()) {
+            case FORGE_CALL:
+                return post(spongeEvent, bridge.getForgeEventCaller());
+            case FORGE_EVENT:
+                if (!EventListenerMask.hasListeners(spongeEvent, bridge.getForgeEventClass(), bridge.getForgeEventBus())) {
+                    return spongeEvent instanceof Cancellable && ((Cancellable) spongeEvent).isCancelled();
                 }
-            } else {
                 SpongeCommonEventFactory.processingInternalForgeEvent = true;
-                net.minecraftforge.fml.common.eventhandler.Event forgeEvent = SpongeForgeEventFactory.findAndCreateForgeEvent(spongeEvent, clazz);
+                net.minecraftforge.fml.common.eventhandler.Event forgeEvent = bridge.createForgeEvent(spongeEvent);
                 SpongeCommonEventFactory.processingInternalForgeEvent = false;
                 if (forgeEvent != null) {
-                    return post(spongeEvent, forgeEvent,
-                            forgeEvent.getListenerList().getListeners(((IMixinEventBus) SpongeForgeEventFactory.getForgeEventBus(forgeEvent.getClass())).getBusID()));
+                    return post(spongeEvent, forgeEvent, forgeEvent.getListenerList().getListeners(bridge.getBusId()));
                 }
-            }
+                break;
+            default:
+                break;
         }
         // no checking for modifications required
-        return post(spongeEvent, getHandlerCache(spongeEvent).getListeners(), false, true);
+        return post(spongeEvent, getHandlerCache(spongeEvent).getListeners());
     }
 
 }
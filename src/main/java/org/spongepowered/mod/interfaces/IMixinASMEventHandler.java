@@ -26,7 +26,29 @@
 
 import co.aikar.timings.Timing;
 
+import java.lang.reflect.Method;
+
+import javax.annotation.Nullable;
+
 public interface IMixinASMEventHandler {
 
     Timing getTimingsHandler();
+
+    /**
+     * Gets the object the handler method is invoked on, null if the method
+     * is static.
+     *
+     * @return The handler target
+     */
+    @Nullable
+    Object getHandlerTarget();
+
+    /**
+     * Gets the handler method, null if events can not be passed to it
+     * directly because it handles generic events.
+     *
+     * @return The handler method
+     */
+    @Nullable
+    Method getHandlerMethod();
 }
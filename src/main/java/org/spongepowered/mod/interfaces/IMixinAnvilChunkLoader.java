@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.interfaces;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.MinecraftException;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Splits saving a chunk into writing everything that may call into mods or
+ * read world state, which has to happen on the main thread when the chunk is
+ * unloaded, encoding the block sections, which only reads the unloaded chunk
+ * and may run on another thread, and committing the result on the main
+ * thread.
+ */
+public interface IMixinAnvilChunkLoader {
+
+    /**
+     * Writes the chunk without its block sections.
+     *
+     * @param world The world
+     * @param chunk The chunk
+     * @return The chunk compound
+     */
+    NBTTagCompound writeChunkData(World world, Chunk chunk);
+
+    /**
+     * Encodes the block sections of the chunk.
+     *
+     * @param world The world
+     * @param chunk The chunk
+     * @return The sections
+     */
+    NBTTagList writeChunkSections(World world, Chunk chunk);
+
+    void commitChunk(World world, Chunk chunk, NBTTagCompound compound, NBTTagList sections) throws MinecraftException;
+}
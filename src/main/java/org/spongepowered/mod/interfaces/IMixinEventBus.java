@@ -31,4 +31,14 @@ public interface IMixinEventBus {
     int getBusID();
 
     boolean post(Event event, boolean forced);
+
+    /**
+     * Gets whether any listener registered on this bus could receive events
+     * of the given class.
+     *
+     * @param eventClass The event class
+     * @return True if any listener is registered for the class, one of its
+     *     superclasses or one of its subclasses
+     */
+    boolean hasListenersFor(Class<?> eventClass);
 }
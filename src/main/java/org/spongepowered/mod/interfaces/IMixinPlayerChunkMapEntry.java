@@ -24,11 +24,20 @@
  */
 package org.spongepowered.mod.interfaces;
 
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.chunk.Chunk;
 
+import java.util.List;
+
 public interface IMixinPlayerChunkMapEntry {
 
     void setChunk(Chunk chunk);
 
+    boolean isLoading();
+
     void setLoading(boolean loading);
+
+    List<EntityPlayerMP> getPlayers();
+
+    Runnable getLoadedRunnable();
 }
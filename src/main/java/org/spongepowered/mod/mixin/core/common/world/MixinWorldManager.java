@@ -43,10 +43,19 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+import org.spongepowered.mod.world.DimensionMetadataIndex;
+import org.spongepowered.mod.world.WorldDataPrefetcher;
+import org.spongepowered.mod.world.WorldLeakDetector;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -92,7 +101,7 @@ public static void sendDimensionRegistration(EntityPlayerMP player, WorldProvide
 
     /**
      * @author blood - August 10th, 2016
-     * @reason Constructs a WorldProvider instance in order to locate the save folder name to use.
+     * @reason Looks up the save folder name to use in the dimension index, which constructs a WorldProvider for unindexed dimensions.
      *
      * @return The path if available
      */
@@ -105,9 +114,8 @@ public static Optional<Path> getWorldFolder(DimensionType dimensionType, int dim
         Path path = dimensionPathByDimensionId.get(dimensionId);
         if (path == null) {
             try {
-                WorldProvider provider = dimensionType.createDimension();
-                provider.setDimension(dimensionId);
-                String worldFolder = provider.getSaveFolder();
+                // Only constructs a provider if the dimension isn't indexed yet
+                String worldFolder = DimensionMetadataIndex.get(dimensionId, dimensionType).getFolder();
                 path = SpongeImpl.getGame().getSavesDirectory().resolve(SpongeImpl.getServer().getFolderName()).resolve(worldFolder);
                 WorldManager.registerDimensionPath(dimensionId, path);
             } catch (Throwable t) {
@@ -118,6 +126,28 @@ public static Optional<Path> getWorldFolder(DimensionType dimensionType, int dim
         return Optional.ofNullable(path);
     }
 
+    @Inject(method = "loadAllWorlds", at = @At("HEAD"))
+    private static void onLoadAllWorldsHead(CallbackInfo ci) {
+        // The worlds are loaded one after another, read their data ahead in the meantime
+        final File rootDirectory = SpongeImpl.getGame().getSavesDirectory().resolve(SpongeImpl.getServer().getFolderName()).toFile();
+        DimensionMetadataIndex.load(rootDirectory);
+        WorldDataPrefetcher.start(rootDirectory);
+    }
+
+    @Inject(method = "loadAllWorlds", at = @At("RETURN"))
+    private static void onLoadAllWorldsReturn(CallbackInfo ci) {
+        WorldDataPrefetcher.finish();
+        DimensionMetadataIndex.save();
+    }
+
+    @Inject(method = "unloadWorld(Lnet/minecraft/world/WorldServer;Z)Z", at = @At("RETURN"))
+    private static void onUnloadWorld(WorldServer worldServer, boolean checkConfig, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ()) {
+            SpongeChunkTicketManager.onWorldUnload(worldServer);
+            WorldLeakDetector.track(worldServer);
+        }
+    }
+
     /**
      * @author blood - August 10th, 2016
      * @reason Registers DimensionType with passed ID to not break mods.
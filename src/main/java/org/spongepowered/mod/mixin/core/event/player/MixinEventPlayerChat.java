@@ -52,8 +52,6 @@
 @NonnullByDefault
 @Mixin(value = ServerChatEvent.class, remap = false)
 public abstract class MixinEventPlayerChat extends MixinEvent implements MessageChannelEvent.Chat, IMixinInitCause {
-    private ITextComponent forgeComponent;
-
     private final MessageFormatter formatter = new MessageFormatter();
     private boolean messageCancelled;
     private Text originalSpongeMessage;
@@ -61,14 +59,19 @@ public abstract class MixinEventPlayerChat extends MixinEvent implements Message
     private MessageChannel originalChannel;
     @Nullable private MessageChannel channel;
     private Cause cause;
+    // Dirty tracking, so the message is only converted when either side has changed it. Mods may also
+    // change the component in place, so its hash is kept alongside the synced reference.
+    private Text syncedMessage;
+    private ITextComponent syncedComponent;
+    private int syncedComponentHash;
 
     @Shadow @Final public EntityPlayerMP player;
 
     @Shadow public abstract void setComponent(ITextComponent component);
+    @Shadow public abstract ITextComponent getComponent();
 
     @Inject(method = "<init>", at = @At("RETURN"))
     public void onConstructed(EntityPlayerMP player, String message, ITextComponent component, CallbackInfo ci) {
-        this.forgeComponent = component;
         Text[] chat = SpongeTexts.splitChatMessage((TextComponentTranslation) component);
         if (chat[1] == null) {
             // Move content from head part to body part
@@ -83,6 +86,9 @@ public void onConstructed(EntityPlayerMP player, String message, ITextComponent
         this.rawSpongeMessage = Text.of(message);
         this.originalSpongeMessage = SpongeTexts.toText(component);
         this.originalChannel = this.channel = ((Player) player).getMessageChannel();
+        this.syncedMessage = getMessage();
+        this.syncedComponent = component;
+        this.syncedComponentHash = component.hashCode();
     }
 
     @Override
@@ -138,17 +144,31 @@ public void setChannel(@Nullable MessageChannel channel) {
     @Override
     public void syncDataToForge(Event spongeEvent) {
         super.syncDataToForge(spongeEvent);
-        this.forgeComponent = SpongeTexts.toComponent(getMessage());
-        setComponent(this.forgeComponent);
+        final Text message = ((MessageChannelEvent.Chat) spongeEvent).getMessage();
+        if (message.equals(this.syncedMessage)) {
+            // No plugin touched the message since the last sync
+            return;
+        }
+        this.syncedMessage = message;
+        final ITextComponent component = SpongeTexts.toComponent(message);
+        setComponent(component);
+        this.syncedComponent = component;
+        this.syncedComponentHash = component.hashCode();
     }
 
     @Override
     public void syncDataToSponge(Event spongeEvent) {
         super.syncDataToSponge(spongeEvent);
-        final MessageChannelEvent.Chat chat = (MessageChannelEvent.Chat) spongeEvent;
-        final ITextComponent event = SpongeTexts.toComponent(chat.getRawMessage());
-        if (!this.forgeComponent.equals(event)) {
-            chat.setMessage(SpongeTexts.toText(this.forgeComponent));
+        final ITextComponent component = getComponent();
+        final int componentHash = component.hashCode();
+        if (component == this.syncedComponent && componentHash == this.syncedComponentHash) {
+            // No mod replaced or changed the component since the last sync
+            return;
         }
+        this.syncedComponent = component;
+        this.syncedComponentHash = componentHash;
+        final MessageChannelEvent.Chat chat = (MessageChannelEvent.Chat) spongeEvent;
+        chat.setMessage(SpongeTexts.toText(component));
+        this.syncedMessage = chat.getMessage();
     }
 }
@@ -35,21 +35,50 @@
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = ExplosionEvent.Detonate.class, remap = false)
 public abstract class MixinExplosionEvent$Detonate extends MixinEvent {
 
+    // The affected blocks as last synced, mods change the list of the explosion directly as well, so it is
+    // compared against the list itself. Positions are immutable, so comparing them by identity is enough.
+    @Nullable private BlockPos[] syncedAffectedBlocks;
+
     @Shadow public abstract List<BlockPos> getAffectedBlocks();
 
+    @Override
+    public void syncDataToForge(Event spongeEvent) {
+        super.syncDataToForge(spongeEvent);
+        this.syncedAffectedBlocks = this.getAffectedBlocks().toArray(new BlockPos[0]);
+    }
+
     @Override
     public void syncDataToSponge(Event spongeEvent) {
+        final List<BlockPos> affectedBlocks = this.getAffectedBlocks();
+        if (isSynced(affectedBlocks)) {
+            return;
+        }
         final org.spongepowered.api.event.world.ExplosionEvent.Detonate
                 detonate =
                 (org.spongepowered.api.event.world.ExplosionEvent.Detonate) spongeEvent;
-        final List<BlockPos> affectedBlocks = this.getAffectedBlocks();
         final List<Location<World>> affectedLocations = detonate.getAffectedLocations();
         affectedLocations.clear();
         for (BlockPos affectedBlock : affectedBlocks) {
             affectedLocations.add(new Location<>(detonate.getTargetWorld(), affectedBlock.getX(), affectedBlock.getY(), affectedBlock.getZ()));
         }
+        this.syncedAffectedBlocks = affectedBlocks.toArray(new BlockPos[0]);
+    }
+
+    private boolean isSynced(List<BlockPos> affectedBlocks) {
+        final BlockPos[] synced = this.syncedAffectedBlocks;
+        if (synced == null || synced.length != affectedBlocks.size()) {
+            return false;
+        }
+        for (int i = 0; i < synced.length; i++) {
+            if (synced[i] != affectedBlocks.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -40,12 +40,17 @@
 import org.spongepowered.mod.interfaces.IMixinASMEventHandler;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = ASMEventHandler.class, remap = false)
 public abstract class MixinASMEventHandler implements IMixinASMEventHandler {
 
     private Timing timingsHandler;
     private String timingName;
+    @Nullable private Object handlerTarget;
+    @Nullable private Method handlerMethod;
 
     @Shadow @Final private IEventListener handler;
     @Shadow private ModContainer owner;
@@ -53,6 +58,8 @@ public abstract class MixinASMEventHandler implements IMixinASMEventHandler {
     @Inject(method = "<init>(Ljava/lang/Object;Ljava/lang/reflect/Method;Lnet/minecraftforge/fml/common/ModContainer;Z)V", at = @At("RETURN"))
     public void onConstruction(Object target, Method method, ModContainer owner, boolean isGeneric, CallbackInfo ci) {
         this.timingName = target.getClass().getSimpleName() + "_" + method.getName() + "(" + Type.getMethodDescriptor(method) + ")";
+        this.handlerTarget = Modifier.isStatic(method.getModifiers()) ? null : target;
+        this.handlerMethod = isGeneric ? null : method;
     }
 
     @Override
@@ -62,4 +69,16 @@ public Timing getTimingsHandler() {
         }
         return this.timingsHandler;
     }
+
+    @Nullable
+    @Override
+    public Object getHandlerTarget() {
+        return this.handlerTarget;
+    }
+
+    @Nullable
+    @Override
+    public Method getHandlerMethod() {
+        return this.handlerMethod;
+    }
 }
@@ -29,11 +29,7 @@
 import co.aikar.timings.TimingsManager;
 import com.google.common.base.Throwables;
 import com.google.common.reflect.TypeToken;
-import net.minecraftforge.event.entity.living.LivingDropsEvent;
-import net.minecraftforge.event.entity.player.AttackEntityEvent;
-import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.fml.common.ModContainer;
-import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
@@ -49,6 +45,8 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.event.EventListenerMask;
+import org.spongepowered.mod.event.ForgeEventFlags;
 import org.spongepowered.mod.event.SpongeForgeEventFactory;
 import org.spongepowered.mod.event.SpongeForgeEventHooks;
 import org.spongepowered.mod.event.SpongeModEventManager;
@@ -57,8 +55,8 @@
 
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @NonnullByDefault
 @Mixin(value = EventBus.class, remap = false)
@@ -67,28 +65,11 @@ public abstract class MixinEventBus implements IMixinEventBus {
     private EventBus eventBus = (EventBus) (Object) this;
 
     // Because Forge can't be bothered to keep track of this information itself
-    private Map<IEventListener, Class<? extends Event>> forgeListenerRegistry = new HashMap<>();
+    private Map<IEventListener, Class<? extends Event>> forgeListenerRegistry = new ConcurrentHashMap<>();
 
     @Shadow @Final private int busID;
     @Shadow private IEventExceptionHandler exceptionHandler;
 
-    // Events that should not be posted on the event bus
-    private boolean isEventAllowed(Event event) {
-        if (event instanceof PlayerInteractEvent.EntityInteract) {
-            return false;
-        } else if (event instanceof LivingDropsEvent) {
-            return false;
-        } else if (event instanceof WorldEvent.Save) {
-            return false;
-        } else if (event instanceof WorldEvent.Unload) {
-            return false;
-        } else if (event instanceof AttackEntityEvent) { // TODO - gabizou - figure this one out
-            return false;
-        }
-
-        return true;
-    }
-
     @Overwrite
     public boolean post(Event event) {
         return post(event, false);
@@ -96,12 +77,22 @@ public boolean post(Event event) {
 
     @Override
     public boolean post(Event event, boolean forced) {
-        if (!forced && !isEventAllowed(event)) {
+        final ForgeEventFlags flags = ForgeEventFlags.of(event);
+        if (!forced && !flags.isAllowed()) {
             return false;
         }
 
         IEventListener[] listeners = event.getListenerList().getListeners(this.busID);
-        if (!forced && event instanceof org.spongepowered.api.event.Event && !Sponge.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!forced && flags.isSpongeEvent() && !Sponge.getGame().getPlatform().getExecutionType().isClient()) {
+            // Nobody is listening on either side, so there is nothing to bridge
+            if (listeners.length == 0 && !EventListenerMask.hasSpongeListeners((org.spongepowered.api.event.Event) event)) {
+                final boolean cancelled = event.isCancelable() && event.isCanceled();
+                if (!cancelled) {
+                    SpongeForgeEventFactory.onForgePost(event);
+                }
+
+                return cancelled;
+            }
             boolean cancelled = ((SpongeModEventManager) SpongeImpl.getGame().getEventManager()).post(null, event, listeners);
             if (!cancelled) {
                 SpongeForgeEventFactory.onForgePost(event);
@@ -109,7 +100,6 @@ public boolean post(Event event, boolean forced) {
 
             return cancelled;
         } else {
-            listeners = event.getListenerList().getListeners(this.busID);
             int index = 0;
             IMixinASMEventHandler modListener = null;
             try {
@@ -123,16 +113,17 @@ public boolean post(Event event, boolean forced) {
                         modListener.getTimingsHandler().startTimingIfSync();
                         SpongeForgeEventHooks.preEventPhaseCheck(listener, event);
                         listener.invoke(event);
-                        SpongeForgeEventHooks.postEventPhaseCheck(listener, event);
                         modListener.getTimingsHandler().stopTimingIfSync();
                     } else {
                         listener.invoke(event);
                     }
                 }
+                SpongeForgeEventHooks.postEventPhaseCheck(event);
             } catch (Throwable throwable) {
                 if (modListener != null) {
                     modListener.getTimingsHandler().stopTimingIfSync();
                 }
+                SpongeForgeEventHooks.postEventPhaseCheck(event);
                 this.exceptionHandler.handleException(this.eventBus, event, listeners, index, throwable);
                 Throwables.propagate(throwable);
             }
@@ -160,6 +151,7 @@ public void onRegister(ListenerList list, int id, EventPriority priority, IEvent
         }
 
         this.forgeListenerRegistry.put(listener, eventType);
+        EventListenerMask.invalidate();
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -177,10 +169,21 @@ public void onUnregisterListener(int id, IEventListener listener) {
                 }
             }
         }
+        EventListenerMask.invalidate();
     }
 
     @Override
     public int getBusID() {
         return this.busID;
     }
+
+    @Override
+    public boolean hasListenersFor(Class<?> eventClass) {
+        for (Class<? extends Event> eventType : this.forgeListenerRegistry.values()) {
+            if (eventType.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
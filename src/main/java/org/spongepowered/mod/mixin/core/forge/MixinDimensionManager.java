@@ -24,8 +24,6 @@
  */
 package org.spongepowered.mod.mixin.core.forge;
 
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.DimensionType;
@@ -37,22 +35,19 @@
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
-import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.mod.SpongeMod;
-import org.spongepowered.mod.util.StaticMixinForgeHelper;
+import org.spongepowered.mod.world.DimensionMetadataIndex;
+import org.spongepowered.mod.world.WorldHibernation;
+import org.spongepowered.mod.world.WorldLeakDetector;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Hashtable;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * This mixin redirects all logic in Forge to our WorldManager.
@@ -60,8 +55,6 @@
 @Mixin(value = DimensionManager.class, remap = false)
 public abstract class MixinDimensionManager {
 
-    @Shadow static Multiset<Integer> leakedWorlds = HashMultiset.create();
-
     @Overwrite
     public static int[] getDimensions(DimensionType type) {
         return (int[]) (Object) WorldManager.getRegisteredDimensionIdsFor(type);
@@ -105,32 +98,11 @@ public static WorldProvider getProvider(int dim) {
 
     /**
      * Gets loaded dimension ids
-     * @param check Check for leaked worlds
+     * @param check Check for leaked worlds, unloaded worlds are tracked by the {@link WorldLeakDetector} instead
      * @return An array of loaded dimension ids
      */
     @Overwrite
     public static Integer[] getIDs(boolean check) {
-        if (check) {
-
-            final List<WorldServer> candidateLeakedWorlds = new ArrayList<>(WorldManager.getWeakWorldMap().values());
-            candidateLeakedWorlds.removeAll(WorldManager.getWorlds());
-
-            leakedWorlds
-                    .addAll(candidateLeakedWorlds.stream().map(System::identityHashCode).collect(Collectors.toList()));
-
-            for (WorldServer worldServer : WorldManager.getWorlds()) {
-                final int hashCode = System.identityHashCode(worldServer);
-                final int leakCount = leakedWorlds.count(hashCode);
-
-
-                // Log every 5 loops
-                if (leakCount > 0 && leakCount % 5 == 0) {
-                    SpongeImpl.getLogger().warn("World [{}] (DIM{}) (HASH: {}) may have leaked. Encountered [{}] times", worldServer.getWorldInfo()
-                            .getWorldName(), ((IMixinWorldServer) worldServer).getDimensionId(), hashCode, leakCount);
-                }
-            }
-        }
-
         return getIDs();
     }
 
@@ -177,6 +149,15 @@ public static void initDimension(int dim) {
         WorldManager.getWorldByDimensionId(0).orElseThrow(() -> new RuntimeException("Attempt made to initialize "
                 + "dimension before overworld is loaded!"));
 
+        // Hibernated worlds keep their properties, load them again right away
+        final WorldProperties hibernatedProperties = WorldHibernation.resume(dim);
+        if (hibernatedProperties != null && hibernatedProperties.isEnabled()) {
+            if (!WorldManager.loadWorld(hibernatedProperties).isPresent()) {
+                SpongeImpl.getLogger().error("Could not resume world [{}]!", hibernatedProperties.getWorldName());
+            }
+            return;
+        }
+
         DimensionType dimensionType = WorldManager.getDimensionType(dim).orElse(null);
         if (dimensionType == null) {
             SpongeImpl.getLogger().warn("Attempt made to initialize dimension id {} which isn't registered!"
@@ -184,17 +165,15 @@ public static void initDimension(int dim) {
             return;
         }
 
-        final WorldProvider provider = dimensionType.createDimension();
-        // make sure to set the dimension id to avoid getting a null save folder
-        provider.setDimension(dim);
-        String worldFolder = WorldManager.getWorldFolderByDimensionId(dim).orElse(provider.getSaveFolder());
+        // Only constructs a provider if the dimension isn't indexed yet
+        final DimensionMetadataIndex.Metadata metadata = DimensionMetadataIndex.get(dim, dimensionType);
+        String worldFolder = WorldManager.getWorldFolderByDimensionId(dim).orElse(metadata.getFolder());
         WorldProperties properties = WorldManager.getWorldProperties(worldFolder).orElse(null);
         if (properties == null) {
             final WorldArchetype.Builder builder = WorldArchetype.builder()
                     .dimension((org.spongepowered.api.world.DimensionType)(Object) dimensionType)
                     .keepsSpawnLoaded(dimensionType.shouldLoadSpawn());
-            String modId = StaticMixinForgeHelper.getModIdFromClass(provider.getClass());
-            final WorldArchetype archetype = builder.build(modId + ":" + dimensionType.getName().toLowerCase(), dimensionType.getName());
+            final WorldArchetype archetype = builder.build(metadata.getModId() + ":" + dimensionType.getName().toLowerCase(), dimensionType.getName());
             properties = WorldManager.createWorldProperties(worldFolder, archetype);
             ((IMixinWorldInfo) properties).setDimensionId(dim);
         }
@@ -251,6 +230,7 @@ public static void unloadWorld(int id) {
 
     @Overwrite
     public static void unloadWorlds(Hashtable<Integer, long[]> worldTickTimes) {
+        WorldHibernation.tick();
         WorldManager.unloadQueuedWorlds();
     }
 
@@ -261,6 +241,7 @@ public static int getNextFreeDimId() {
 
     @Overwrite
     public static NBTTagCompound saveDimensionDataMap() {
+        DimensionMetadataIndex.save();
         return WorldManager.saveDimensionDataMap();
     }
 
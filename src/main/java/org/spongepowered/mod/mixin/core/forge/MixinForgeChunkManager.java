@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.forge;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.ForgeChunkManager;
+import net.minecraftforge.common.ForgeChunkManager.Ticket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
+import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+import org.spongepowered.mod.world.DormantChunkCache;
+
+import java.util.Iterator;
+
+@Mixin(value = ForgeChunkManager.class, remap = false)
+public abstract class MixinForgeChunkManager {
+
+    // Releasing a ticket and exceeding the chunk depth of a ticket both unforce chunks through here as well
+    @Inject(method = "forceChunk", at = @At("RETURN"))
+    private static void onForceChunk(Ticket ticket, ChunkPos chunk, CallbackInfo ci) {
+        if (ticket != null && chunk != null) {
+            SpongeChunkTicketManager.onTicketChunksChanged(ticket);
+            SpongeChunkTicketManager.updateForcedChunk(ticket.world, chunk);
+        }
+    }
+
+    @Inject(method = "unforceChunk", at = @At("RETURN"))
+    private static void onUnforceChunk(Ticket ticket, ChunkPos chunk, CallbackInfo ci) {
+        if (ticket != null && chunk != null) {
+            SpongeChunkTicketManager.onTicketChunksChanged(ticket);
+            SpongeChunkTicketManager.updateForcedChunk(ticket.world, chunk);
+        }
+    }
+
+    @Inject(method = "reorderChunk", at = @At("RETURN"))
+    private static void onReorderChunk(Ticket ticket, ChunkPos chunk, CallbackInfo ci) {
+        if (ticket != null) {
+            SpongeChunkTicketManager.onTicketChunksChanged(ticket);
+        }
+    }
+
+    @Inject(method = "releaseTicket", at = @At("HEAD"))
+    private static void onReleaseTicket(Ticket ticket, CallbackInfo ci) {
+        if (ticket != null) {
+            SpongeChunkTicketManager.onTicketReleased(ticket);
+        }
+    }
+
+    @Inject(method = "unloadWorld", at = @At("HEAD"))
+    private static void onUnloadWorld(World world, CallbackInfo ci) {
+        SpongeChunkTicketManager.onWorldUnload(world);
+    }
+
+    // Chunks of server worlds are cached in their DormantChunkCache instead, if one is configured
+    @Inject(method = "fetchDormantChunk", at = @At("HEAD"), cancellable = true)
+    private static void onFetchDormantChunk(long coords, World world, CallbackInfoReturnable<Chunk> cir) {
+        if (world instanceof IMixinWorldServerForge) {
+            final DormantChunkCache dormantChunkCache = ((IMixinWorldServerForge) world).getDormantChunkCache();
+            if (dormantChunkCache.isEnabled()) {
+                cir.setReturnValue(dormantChunkCache.fetch(coords));
+            }
+        }
+    }
+
+    // Forge loads every forced chunk here at once, rather than by priority
+    @Inject(method = "getPersistentChunksIterableFor", at = @At("HEAD"), cancellable = true)
+    private static void onGetPersistentChunksIterable(World world, Iterator<Chunk> chunkIterator, CallbackInfoReturnable<Iterator<Chunk>> cir) {
+        if (world instanceof IMixinWorldServerForge) {
+            cir.setReturnValue(((IMixinWorldServerForge) world).getForcedChunkIndex().getTickedChunks(chunkIterator));
+        }
+    }
+}
@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.mod.entity.PlayerChunkRunnable;
+import org.spongepowered.mod.interfaces.IMixinPlayerChunkMap;
 import org.spongepowered.mod.interfaces.IMixinPlayerChunkMapEntry;
 
 import java.util.List;
@@ -54,10 +55,18 @@ public class MixinPlayerChunkMapEntry implements IMixinPlayerChunkMapEntry {
 
     @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(IILjava/lang/Runnable;)Lnet/minecraft/world/chunk/Chunk;", remap = false))
     public Chunk onLoadChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ, Runnable runnable) {
-        this.loading = true;
         this.loadedRunnable = new PlayerChunkRunnable(this.playerChunkMap, (PlayerChunkMapEntry) (Object) this);
-        this.chunk = this.playerChunkMap.getWorldServer().getChunkProvider().loadChunk(chunkX, chunkZ, this.loadedRunnable);
-        this.markChunkUsed();
+        return this.queueChunkLoad(chunkProviderServer, chunkX, chunkZ);
+    }
+
+    // Chunks which aren't loaded yet are loaded by the scheduler in order of priority
+    private Chunk queueChunkLoad(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
+        this.chunk = chunkProviderServer.getLoadedChunk(chunkX, chunkZ);
+        if (this.chunk != null) {
+            this.markChunkUsed();
+        } else {
+            ((IMixinPlayerChunkMap) this.playerChunkMap).getChunkLoadScheduler().queue((PlayerChunkMapEntry) (Object) this);
+        }
         return this.chunk;
     }
 
@@ -74,15 +83,7 @@ public final void markChunkUsed() {
 
     @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onProvidePlayerChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
-        this.loading = true;
-        if (!chunkProviderServer.chunkExists(chunkX, chunkZ)) {
-            this.chunk = chunkProviderServer.provideChunk(chunkX, chunkZ);
-        } else {
-            // try to load chunk async
-            this.chunk = chunkProviderServer.loadChunk(chunkX, chunkZ, this.loadedRunnable);
-        }
-        markChunkUsed();
-        return this.chunk;
+        return this.queueChunkLoad(chunkProviderServer, chunkX, chunkZ);
     }
 
     /**
@@ -91,11 +92,7 @@ public Chunk onProvidePlayerChunk(ChunkProviderServer chunkProviderServer, int c
      */
     @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onLoadPlayerChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
-        // try to load chunk async
-        this.loading = true;
-        this.chunk = chunkProviderServer.loadChunk(chunkX, chunkZ, this.loadedRunnable);
-        this.markChunkUsed();
-        return this.chunk;
+        return this.queueChunkLoad(chunkProviderServer, chunkX, chunkZ);
     }
 
     // Called by PlayerChunkRunnable after a chunk is loaded
@@ -105,8 +102,23 @@ public void setChunk(Chunk chunk) {
         this.markChunkUsed();
     }
 
+    @Override
+    public boolean isLoading() {
+        return this.loading;
+    }
+
     @Override
     public void setLoading(boolean loading) {
         this.loading = loading;
     }
+
+    @Override
+    public List<EntityPlayerMP> getPlayers() {
+        return this.players;
+    }
+
+    @Override
+    public Runnable getLoadedRunnable() {
+        return this.loadedRunnable;
+    }
 }
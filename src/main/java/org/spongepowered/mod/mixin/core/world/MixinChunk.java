@@ -39,6 +39,9 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.ForcedChunkIndex;
 
 @NonnullByDefault
 @Mixin(net.minecraft.world.chunk.Chunk.class)
@@ -50,7 +53,10 @@ public abstract class MixinChunk implements Chunk, IMixinChunk {
 
     @Inject(method = "onChunkLoad", at = @At("RETURN"))
     public void onChunkLoadInject(CallbackInfo ci) {
-        if (!this.worldObj.isRemote) {
+        if (this.worldObj instanceof IMixinWorldServerForge) {
+            final ForcedChunkIndex forcedChunkIndex = ((IMixinWorldServerForge) this.worldObj).getForcedChunkIndex();
+            ((IMixinChunk) this).setPersistedChunk(forcedChunkIndex.isForced(this.xPosition, this.zPosition));
+        } else if (!this.worldObj.isRemote) {
             for (ChunkPos forced : this.worldObj.getPersistentChunks().keySet()) {
                 if (forced.chunkXPos == this.xPosition && forced.chunkZPos == this.zPosition) {
                     ((IMixinChunk) this).setPersistedChunk(true);
@@ -64,6 +70,13 @@ public void onChunkLoadInject(CallbackInfo ci) {
     @Inject(method = "onChunkUnload", at = @At("RETURN"))
     public void onChunkUnloadInject(CallbackInfo ci) {
         // Moved from ChunkProviderServer
+        if (this.worldObj instanceof IMixinWorldServerForge) {
+            final DormantChunkCache dormantChunkCache = ((IMixinWorldServerForge) this.worldObj).getDormantChunkCache();
+            if (dormantChunkCache.isEnabled()) {
+                dormantChunkCache.put(ChunkPos.chunkXZ2Int(this.xPosition, this.zPosition), (net.minecraft.world.chunk.Chunk) (Object) this);
+                return;
+            }
+        }
         net.minecraftforge.common.ForgeChunkManager.putDormantChunk(ChunkPos.chunkXZ2Int(this.xPosition, this.zPosition), (net.minecraft.world.chunk.Chunk)(Object) this);
     }
 
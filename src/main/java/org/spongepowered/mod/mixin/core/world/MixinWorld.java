@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.world;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import net.minecraft.entity.Entity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
+import org.spongepowered.mod.service.world.ChunkTickLevel;
+import org.spongepowered.mod.world.gen.PopulationScheduler;
+
+@Mixin(value = World.class, priority = 1001)
+public abstract class MixinWorld {
+
+    // Entities in forced chunks are updated regardless of the surrounding chunks, unless only border ticking was requested
+    @Redirect(method = "updateEntityWithOptionalForce", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/ImmutableSetMultimap;containsKey(Ljava/lang/Object;)Z", remap = false))
+    public boolean onCheckForcedChunk(ImmutableSetMultimap<ChunkPos, ?> persistentChunks, Object chunkPos, Entity entity, boolean forceUpdate) {
+        if (!((Object) this instanceof IMixinWorldServerForge)) {
+            return persistentChunks.containsKey(chunkPos);
+        }
+        final ChunkPos pos = (ChunkPos) chunkPos;
+        final ChunkTickLevel tickLevel = ((IMixinWorldServerForge) this).getForcedChunkIndex().getTickLevel(pos.chunkXPos, pos.chunkZPos);
+        return tickLevel != null && tickLevel != ChunkTickLevel.BORDER;
+    }
+
+    // Relighting uses a single update buffer per world, chunks populated in parallel are relit on the main thread
+    @Inject(method = "checkLightFor", at = @At("HEAD"), cancellable = true)
+    public void onCheckLightFor(EnumSkyBlock lightType, BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
+        if (PopulationScheduler.isPopulationWorker()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            PopulationScheduler.runOnMainThread(() -> ((World) (Object) this).checkLightFor(lightType, immutablePos));
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "addTileEntity", at = @At("HEAD"), cancellable = true)
+    public void onAddTileEntity(TileEntity tileEntity, CallbackInfoReturnable<Boolean> cir) {
+        if (PopulationScheduler.isPopulationWorker()) {
+            PopulationScheduler.runOnMainThread(() -> ((World) (Object) this).addTileEntity(tileEntity));
+            cir.setReturnValue(true);
+        }
+    }
+}
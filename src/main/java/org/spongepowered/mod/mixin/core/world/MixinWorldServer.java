@@ -24,17 +24,57 @@
  */
 package org.spongepowered.mod.mixin.core.world;
 
+import net.minecraft.block.Block;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.world.World;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.mod.event.SpongeForgeEventHooks;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.ForcedChunkIndex;
+import org.spongepowered.mod.world.gen.PopulationScheduler;
 import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = WorldServer.class, priority = 1001)
-public abstract class MixinWorldServer extends MixinWorld implements World, IMixinWorldServer {
+public abstract class MixinWorldServer extends MixinWorld implements World, IMixinWorldServer, IMixinWorldServerForge {
+
+    @Shadow(remap = false) @Final private CauseTracker causeTracker;
+
+    // Kept up to date by MixinForgeChunkManager
+    private final ForcedChunkIndex forcedChunkIndex = new ForcedChunkIndex((WorldServer) (Object) this);
+    // Created on first use, the world info isn't set yet while constructing
+    @Nullable private DormantChunkCache dormantChunkCache;
+
+    // The last tick listener pass this world entered the listener phase for
+    private int listenerPass;
+
+    @Override
+    public CauseTracker getCauseTracker() {
+        // Chunks populated in parallel track the populator each worker runs separately
+        final CauseTracker populationCauseTracker = PopulationScheduler.getCauseTracker();
+        if (populationCauseTracker != null) {
+            return populationCauseTracker;
+        }
+        // Changes made by mods from tick listeners are routed through here, enter their phase on the first one
+        final int pass = SpongeForgeEventHooks.getListenerPass();
+        if (pass != 0 && pass != this.listenerPass && SpongeForgeEventHooks.enterListenerPhase(pass, this.causeTracker)) {
+            this.listenerPass = pass;
+        }
+        return this.causeTracker;
+    }
 
     @Override
     public Integer getDimensionId() {
@@ -46,4 +86,44 @@ public SpongeChunkGenerator createChunkGenerator(SpongeWorldGenerator newGenerat
         return new SpongeChunkGeneratorForge((net.minecraft.world.World) (Object) this, newGenerator.getBaseGenerationPopulator(),
                 newGenerator.getBiomeGenerator());
     }
+
+    // The pending block updates are shared by the whole world, chunks populated in parallel schedule theirs on the main thread
+    @Inject(method = "updateBlockTick", at = @At("HEAD"), cancellable = true)
+    private void onUpdateBlockTick(BlockPos pos, Block block, int delay, int priority, CallbackInfo ci) {
+        if (PopulationScheduler.isPopulationWorker()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            PopulationScheduler.runOnMainThread(() -> ((WorldServer) (Object) this).updateBlockTick(immutablePos, block, delay, priority));
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "scheduleBlockUpdate", at = @At("HEAD"), cancellable = true)
+    private void onScheduleBlockUpdate(BlockPos pos, Block block, int delay, int priority, CallbackInfo ci) {
+        if (PopulationScheduler.isPopulationWorker()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            PopulationScheduler.runOnMainThread(() -> ((WorldServer) (Object) this).scheduleBlockUpdate(immutablePos, block, delay, priority));
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public ForcedChunkIndex getForcedChunkIndex() {
+        return this.forcedChunkIndex;
+    }
+
+    // Called once the world is unloaded or the server stops
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void onFlush(CallbackInfo ci) {
+        if (this.dormantChunkCache != null && this.dormantChunkCache.isEnabled()) {
+            this.dormantChunkCache.logStatistics();
+        }
+    }
+
+    @Override
+    public DormantChunkCache getDormantChunkCache() {
+        if (this.dormantChunkCache == null) {
+            this.dormantChunkCache = new DormantChunkCache((WorldServer) (Object) this);
+        }
+        return this.dormantChunkCache;
+    }
 }
@@ -27,20 +27,86 @@
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkGenerator;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.mod.interfaces.IMixinAnvilChunkLoader;
+import org.spongepowered.mod.world.ChunkSaveQueue;
+import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = ChunkProviderServer.class, priority = 1001)
 public abstract class MixinChunkProviderServer implements IMixinChunkProviderServer {
 
     @Shadow @Final public WorldServer worldObj;
     @Shadow @Final public Long2ObjectMap<Chunk> id2ChunkMap;
+    @Shadow @Final private IChunkLoader chunkLoader;
+    @Shadow @Final public IChunkGenerator chunkGenerator;
+
+    @Shadow protected abstract void saveChunkData(Chunk chunkIn);
+
+    // Time per tick for committing encoded chunks to the chunk loader
+    private static final long SAVE_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Nullable private ChunkSaveQueue saveQueue;
+
+    @Nullable
+    private ChunkSaveQueue getSaveQueue() {
+        if (this.saveQueue == null && this.chunkLoader instanceof IMixinAnvilChunkLoader) {
+            this.saveQueue = new ChunkSaveQueue(this.worldObj, (IMixinAnvilChunkLoader) this.chunkLoader);
+        }
+        return this.saveQueue;
+    }
+
+    @Inject(method = "unloadQueuedChunks", at = @At("HEAD"))
+    public void onUnloadQueuedChunksHead(CallbackInfoReturnable<Boolean> cir) {
+        // Chunks deferred to be populated in parallel are done before any of them is unloaded
+        if (this.chunkGenerator instanceof SpongeChunkGeneratorForge) {
+            ((SpongeChunkGeneratorForge) this.chunkGenerator).flushPopulation();
+        }
+        if (this.saveQueue != null) {
+            this.saveQueue.tick(System.nanoTime() + SAVE_BUDGET);
+        }
+    }
+
+    @Redirect(method = "unloadQueuedChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;saveChunkData(Lnet/minecraft/world/chunk/Chunk;)V"))
+    public void onUnloadSaveChunkData(ChunkProviderServer chunkProvider, Chunk chunk) {
+        final ChunkSaveQueue saveQueue = getSaveQueue();
+        if (saveQueue != null) {
+            saveQueue.queue(chunk);
+        } else {
+            this.saveChunkData(chunk);
+        }
+    }
+
+    @Inject(method = "loadChunk(IILjava/lang/Runnable;)Lnet/minecraft/world/chunk/Chunk;", at = @At("HEAD"), remap = false)
+    public void onLoadChunkHead(int x, int z, Runnable runnable, CallbackInfoReturnable<Chunk> cir) {
+        // Never read a chunk back from disk before its last save is written
+        if (this.saveQueue != null) {
+            this.saveQueue.flush(x, z);
+        }
+    }
+
+    @Inject(method = "saveChunks", at = @At("HEAD"))
+    public void onSaveChunksHead(boolean all, CallbackInfoReturnable<Boolean> cir) {
+        if (this.chunkGenerator instanceof SpongeChunkGeneratorForge) {
+            ((SpongeChunkGeneratorForge) this.chunkGenerator).flushPopulation();
+        }
+        if (this.saveQueue != null) {
+            this.saveQueue.flush();
+        }
+    }
 
     @Inject(method = "unloadQueuedChunks", at = @At("RETURN"))
     public void onUnloadQueuedChunksReturn(CallbackInfoReturnable<Boolean> cir) {
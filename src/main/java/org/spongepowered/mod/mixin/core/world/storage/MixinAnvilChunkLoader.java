@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.MinecraftException;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.common.ForgeChunkManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.mod.interfaces.IMixinAnvilChunkLoader;
+
+@Mixin(value = AnvilChunkLoader.class, priority = 1001)
+public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
+
+    private static final ExtendedBlockStorage[] NO_SECTIONS = new ExtendedBlockStorage[0];
+
+    private boolean skipSections;
+
+    @Shadow protected abstract void addChunkToPending(ChunkPos pos, NBTTagCompound compound);
+    @Shadow protected abstract void writeChunkToNBT(Chunk chunkIn, World worldIn, NBTTagCompound compound);
+
+    // Same as the first half of AnvilChunkLoader#saveChunk, minus the sections
+    @Override
+    public NBTTagCompound writeChunkData(World world, Chunk chunk) {
+        final NBTTagCompound compound = new NBTTagCompound();
+        final NBTTagCompound level = new NBTTagCompound();
+        compound.setTag("Level", level);
+        compound.setInteger("DataVersion", 512);
+        this.skipSections = true;
+        try {
+            this.writeChunkToNBT(chunk, world, level);
+        } finally {
+            this.skipSections = false;
+        }
+        return compound;
+    }
+
+    @Redirect(method = "writeChunkToNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/Chunk;getBlockStorageArray()[Lnet/minecraft/world/chunk/storage/ExtendedBlockStorage;"))
+    private ExtendedBlockStorage[] onWriteChunkGetSections(Chunk chunk) {
+        return this.skipSections ? NO_SECTIONS : chunk.getBlockStorageArray();
+    }
+
+    // Same as the sections loop of AnvilChunkLoader#writeChunkToNBT
+    @Override
+    public NBTTagList writeChunkSections(World world, Chunk chunk) {
+        final NBTTagList sections = new NBTTagList();
+        final boolean hasSky = !world.provider.getHasNoSky();
+        for (ExtendedBlockStorage storage : chunk.getBlockStorageArray()) {
+            if (storage != Chunk.NULL_BLOCK_STORAGE) {
+                final NBTTagCompound section = new NBTTagCompound();
+                section.setByte("Y", (byte) (storage.getYLocation() >> 4 & 255));
+                final byte[] blocks = new byte[4096];
+                final NibbleArray data = new NibbleArray();
+                final NibbleArray add = storage.getData().getDataForNBT(blocks, data);
+                section.setByteArray("Blocks", blocks);
+                section.setByteArray("Data", data.getData());
+                if (add != null) {
+                    section.setByteArray("Add", add.getData());
+                }
+                section.setByteArray("BlockLight", storage.getBlocklightArray().getData());
+                if (hasSky) {
+                    section.setByteArray("SkyLight", storage.getSkylightArray().getData());
+                } else {
+                    section.setByteArray("SkyLight", new byte[storage.getBlocklightArray().getData().length]);
+                }
+                sections.appendTag(section);
+            }
+        }
+        return sections;
+    }
+
+    // Same as the second half of AnvilChunkLoader#saveChunk
+    @Override
+    public void commitChunk(World world, Chunk chunk, NBTTagCompound compound, NBTTagList sections) throws MinecraftException {
+        world.checkSessionLock();
+        compound.getCompoundTag("Level").setTag("Sections", sections);
+        ForgeChunkManager.storeChunkNBT(chunk, compound.getCompoundTag("Level"));
+        MinecraftForge.EVENT_BUS.post(new ChunkDataEvent.Save(chunk, compound));
+        this.addChunkToPending(chunk.getChunkCoordIntPair(), compound);
+    }
+}
@@ -26,7 +26,6 @@
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.datafix.DataFixer;
-import net.minecraft.world.storage.SaveFormatOld;
 import net.minecraft.world.storage.SaveHandler;
 import net.minecraft.world.storage.WorldInfo;
 import net.minecraftforge.fml.common.FMLCommonHandler;
@@ -40,6 +39,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
+import org.spongepowered.mod.world.WorldDataPrefetcher;
 
 import java.io.File;
 import java.io.IOException;
@@ -61,7 +61,7 @@ public void redirectHandleWorldDataSaveWithPlayer(FMLCommonHandler fml, SaveHand
 
     @Redirect(method = "loadWorldInfo", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/storage/SaveFormatOld;loadAndFix(Ljava/io/File;Lnet/minecraft/util/datafix/DataFixer;Lnet/minecraft/world/storage/SaveHandler;)Lnet/minecraft/world/storage/WorldInfo;", remap = false))
     private WorldInfo onLoadWorldInfo(File file, DataFixer fixer, SaveHandler handler) {
-        final WorldInfo worldInfo = SaveFormatOld.loadAndFix(file, fixer, handler);
+        final WorldInfo worldInfo = WorldDataPrefetcher.loadAndFix(file, fixer, handler);
         if (worldInfo != null) {
             try {
                 ((IMixinSaveHandler) handler).loadSpongeDatData(worldInfo);
@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.service.world;
+
+/**
+ * How much of a chunk is ticked while it is only loaded because it is
+ * forced by a loading ticket.
+ *
+ * <p>Block entities are ticked as long as the chunk is loaded, whatever the
+ * level. Chunks watched by players are always ticked fully. If a chunk is
+ * forced by several tickets, the highest level of all of them applies.</p>
+ */
+public enum ChunkTickLevel {
+
+    /**
+     * Only keeps the chunk loaded, its entities are only updated if the
+     * surrounding chunks are loaded as well.
+     */
+    BORDER,
+
+    /**
+     * Updates the entities of the chunk, but skips random block ticks.
+     */
+    ENTITIES,
+
+    /**
+     * Ticks the chunk as if a player was close by.
+     */
+    FULL
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.service.world;
+
+import org.spongepowered.api.world.ChunkTicketManager;
+
+/**
+ * A {@link ChunkTicketManager.LoadingTicket} which controls when its chunks
+ * are loaded and how much they are ticked.
+ *
+ * <p>Every ticket created through the {@link SpongeChunkTicketManager}
+ * implements this. Both settings are stored with the ticket, so they are
+ * kept across restarts.</p>
+ */
+public interface PrioritizedLoadingTicket extends ChunkTicketManager.LoadingTicket {
+
+    /**
+     * Gets the load priority of this ticket. Forced chunks which aren't
+     * loaded yet are loaded over the following ticks, those of tickets with
+     * a higher priority first.
+     *
+     * @return The load priority, 0 by default
+     */
+    int getLoadPriority();
+
+    /**
+     * Sets the load priority of this ticket.
+     *
+     * @param priority The load priority
+     */
+    void setLoadPriority(int priority);
+
+    /**
+     * Gets how much the chunks forced by this ticket are ticked.
+     *
+     * @return The tick level, {@link ChunkTickLevel#FULL} by default
+     */
+    ChunkTickLevel getTickLevel();
+
+    /**
+     * Sets how much the chunks forced by this ticket are ticked.
+     *
+     * @param tickLevel The tick level
+     */
+    void setTickLevel(ChunkTickLevel tickLevel);
+}
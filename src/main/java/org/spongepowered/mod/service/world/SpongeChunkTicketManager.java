@@ -24,6 +24,8 @@
  */
 package org.spongepowered.mod.service.world;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
@@ -31,9 +33,13 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MapMaker;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.ForgeChunkManager;
 import net.minecraftforge.common.ForgeChunkManager.Ticket;
+import net.minecraftforge.common.util.Constants;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.plugin.PluginContainer;
@@ -41,6 +47,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -50,8 +57,19 @@
 import java.util.Set;
 import java.util.UUID;
 
+import javax.annotation.Nullable;
+
 public class SpongeChunkTicketManager implements ChunkTicketManager {
 
+    // Stored in the mod data of the Forge ticket, so they are saved along with it
+    private static final String LOAD_PRIORITY = "SpongeLoadPriority";
+    private static final String TICK_LEVEL = "SpongeTickLevel";
+
+    // One wrapper per Forge ticket, so the plugin lookup is only done once per ticket.
+    // Both reference their keys, so they are cleared when a ticket is released or its world unloaded.
+    private static final Map<Ticket, SpongeLoadingTicket> LOADING_TICKETS = new MapMaker().makeMap();
+    private static final Map<net.minecraft.world.World, ForcedChunks> FORCED_CHUNKS = new MapMaker().makeMap();
+
     @Override
     public void registerCallback(Object plugin, Callback callback) {
         ForgeChunkManager.setForcedChunkLoadingCallback(plugin, new SpongeLoadingCallback(plugin, callback));
@@ -64,7 +82,7 @@ public Optional<LoadingTicket> createTicket(Object plugin, World world) {
             return Optional.empty();
         }
 
-        return Optional.of((LoadingTicket) new SpongeLoadingTicket(forgeTicket));
+        return Optional.of((LoadingTicket) getLoadingTicket(forgeTicket));
     }
 
     @Override
@@ -74,7 +92,7 @@ public Optional<EntityLoadingTicket> createEntityTicket(Object plugin, World wor
             return Optional.empty();
         }
 
-        return Optional.of((EntityLoadingTicket) new SpongeEntityLoadingTicket(forgeTicket));
+        return Optional.of((EntityLoadingTicket) getLoadingTicket(forgeTicket));
     }
 
     @Override
@@ -91,7 +109,7 @@ public Optional<PlayerLoadingTicket> createPlayerTicket(Object plugin, World wor
             return Optional.empty();
         }
 
-        return Optional.of((PlayerLoadingTicket) new SpongePlayerLoadingTicket(forgeTicket));
+        return Optional.of((PlayerLoadingTicket) getLoadingTicket(forgeTicket));
     }
 
     @Override
@@ -108,7 +126,7 @@ public Optional<PlayerEntityLoadingTicket> createPlayerEntityTicket(Object plugi
             return Optional.empty();
         }
 
-        return Optional.of((PlayerEntityLoadingTicket) new SpongePlayerEntityLoadingTicket(forgeTicket));
+        return Optional.of((PlayerEntityLoadingTicket) getLoadingTicket(forgeTicket));
     }
 
     @Override
@@ -135,21 +153,115 @@ public int getAvailableTickets(UUID player) {
     public ImmutableSetMultimap<Vector3i, LoadingTicket> getForcedChunks(World world) {
         ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks =
                 ForgeChunkManager.getPersistentChunksFor((net.minecraft.world.World) world);
+        // Forge replaces the forced chunks of a world whenever a chunk is forced or unforced, or a ticket is released
+        ForcedChunks forcedChunks = FORCED_CHUNKS.get(world);
+        if (forcedChunks != null && forcedChunks.forgeForcedChunks == forgeForcedChunks) {
+            return forcedChunks.spongeForcedChunks;
+        }
+
         ImmutableSetMultimap.Builder<Vector3i, LoadingTicket> spongeForcedChunks = ImmutableSetMultimap.builder();
         for (Map.Entry<ChunkPos, Ticket> ticketPair : forgeForcedChunks.entries()) {
             spongeForcedChunks.put(new Vector3i(ticketPair.getKey().chunkXPos, 0, ticketPair.getKey().chunkZPos),
-                    new SpongeLoadingTicket(ticketPair.getValue()));
+                    getLoadingTicket(ticketPair.getValue()));
         }
 
-        return spongeForcedChunks.build();
+        forcedChunks = new ForcedChunks(forgeForcedChunks, spongeForcedChunks.build());
+        FORCED_CHUNKS.put((net.minecraft.world.World) world, forcedChunks);
+        return forcedChunks.spongeForcedChunks;
+    }
+
+    public static int getLoadPriority(Ticket ticket) {
+        return ticket.getModData().getInteger(LOAD_PRIORITY);
+    }
+
+    public static ChunkTickLevel getTickLevel(Ticket ticket) {
+        final NBTTagCompound modData = ticket.getModData();
+        if (modData.hasKey(TICK_LEVEL, Constants.NBT.TAG_STRING)) {
+            try {
+                return ChunkTickLevel.valueOf(modData.getString(TICK_LEVEL));
+            } catch (IllegalArgumentException e) {
+                // Fall back to the default
+            }
+        }
+        return ChunkTickLevel.FULL;
+    }
+
+    /**
+     * Updates the forced chunk index of the given world for the given chunk
+     * from the tickets currently forcing it.
+     *
+     * @param world The world
+     * @param chunk The chunk position
+     */
+    public static void updateForcedChunk(net.minecraft.world.World world, ChunkPos chunk) {
+        if (world instanceof IMixinWorldServerForge) {
+            ((IMixinWorldServerForge) world).getForcedChunkIndex().update(chunk.chunkXPos, chunk.chunkZPos,
+                    ForgeChunkManager.getPersistentChunksFor(world).get(chunk));
+        }
+    }
+
+    /**
+     * Drops the cached chunk list of the given ticket, after a chunk was
+     * forced, unforced or reordered through it.
+     *
+     * @param ticket The ticket
+     */
+    public static void onTicketChunksChanged(Ticket ticket) {
+        final SpongeLoadingTicket loadingTicket = LOADING_TICKETS.get(ticket);
+        if (loadingTicket != null) {
+            loadingTicket.chunkList = null;
+        }
+    }
+
+    /**
+     * Drops the cached state of the given released ticket.
+     *
+     * @param ticket The ticket
+     */
+    public static void onTicketReleased(Ticket ticket) {
+        LOADING_TICKETS.remove(ticket);
+        FORCED_CHUNKS.remove(ticket.world);
+    }
+
+    /**
+     * Drops the cached state of the tickets of the given unloaded world.
+     *
+     * @param world The world
+     */
+    public static void onWorldUnload(net.minecraft.world.World world) {
+        LOADING_TICKETS.keySet().removeIf(ticket -> ticket.world == world);
+        FORCED_CHUNKS.remove(world);
+    }
+
+    private SpongeLoadingTicket getLoadingTicket(Ticket ticket) {
+        return LOADING_TICKETS.computeIfAbsent(ticket, forgeTicket -> {
+            final boolean entityTicket = forgeTicket.getType() == ForgeChunkManager.Type.ENTITY;
+            if (forgeTicket.isPlayerTicket()) {
+                return entityTicket ? new SpongePlayerEntityLoadingTicket(forgeTicket) : new SpongePlayerLoadingTicket(forgeTicket);
+            }
+            return entityTicket ? new SpongeEntityLoadingTicket(forgeTicket) : new SpongeLoadingTicket(forgeTicket);
+        });
+    }
+
+    private static final class ForcedChunks {
+
+        final ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks;
+        final ImmutableSetMultimap<Vector3i, LoadingTicket> spongeForcedChunks;
+
+        ForcedChunks(ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks,
+                ImmutableSetMultimap<Vector3i, LoadingTicket> spongeForcedChunks) {
+            this.forgeForcedChunks = forgeForcedChunks;
+            this.spongeForcedChunks = spongeForcedChunks;
+        }
     }
 
-    private class SpongeLoadingTicket implements ChunkTicketManager.LoadingTicket {
+    private class SpongeLoadingTicket implements PrioritizedLoadingTicket {
 
         protected ForgeChunkManager.Ticket forgeTicket;
         private PluginContainer plugin;
         private String pluginId;
-        private ImmutableSet<Vector3i> chunkList;
+        // Dropped by onTicketChunksChanged whenever the chunks of the ticket change, through Sponge or not
+        @Nullable private ImmutableSet<Vector3i> chunkList;
 
         private SpongeLoadingTicket(Ticket ticket) {
             this.forgeTicket = ticket;
@@ -164,6 +276,7 @@ public boolean setNumChunks(int numChunks) {
             }
 
             this.forgeTicket.setChunkListDepth(numChunks);
+            this.chunkList = null;
             return true;
         }
 
@@ -209,7 +322,40 @@ public void unforceChunk(Vector3i chunk) {
 
         @Override
         public void prioritizeChunk(Vector3i chunk) {
-            ForgeChunkManager.reorderChunk(this.forgeTicket, VecHelper.toChunkCoordIntPair(chunk));
+            final ChunkPos chunkPos = VecHelper.toChunkCoordIntPair(chunk);
+            ForgeChunkManager.reorderChunk(this.forgeTicket, chunkPos);
+            // Start loading the chunk from disk right away, rather than waiting for its turn
+            if (this.forgeTicket.world instanceof WorldServer && this.forgeTicket.getChunkList().contains(chunkPos)) {
+                ((WorldServer) this.forgeTicket.world).getChunkProvider().loadChunk(chunkPos.chunkXPos, chunkPos.chunkZPos, () -> {});
+            }
+        }
+
+        @Override
+        public int getLoadPriority() {
+            return SpongeChunkTicketManager.getLoadPriority(this.forgeTicket);
+        }
+
+        @Override
+        public void setLoadPriority(int priority) {
+            this.forgeTicket.getModData().setInteger(LOAD_PRIORITY, priority);
+            updateForcedChunks();
+        }
+
+        @Override
+        public ChunkTickLevel getTickLevel() {
+            return SpongeChunkTicketManager.getTickLevel(this.forgeTicket);
+        }
+
+        @Override
+        public void setTickLevel(ChunkTickLevel tickLevel) {
+            this.forgeTicket.getModData().setString(TICK_LEVEL, checkNotNull(tickLevel, "tickLevel").name());
+            updateForcedChunks();
+        }
+
+        private void updateForcedChunks() {
+            for (ChunkPos chunkPos : this.forgeTicket.getChunkList()) {
+                updateForcedChunk(this.forgeTicket.world, chunkPos);
+            }
         }
 
         @Override
@@ -281,7 +427,7 @@ public void ticketsLoaded(List<Ticket> tickets, net.minecraft.world.World world)
             List<LoadingTicket> loadingTickets = new ArrayList<>();
 
             for (Ticket ticket : tickets) {
-                loadingTickets.add(new SpongeLoadingTicket(ticket));
+                loadingTickets.add(getLoadingTicket(ticket));
             }
 
             this.spongeLoadingCallback.onLoaded(new ImmutableList.Builder<LoadingTicket>().addAll(loadingTickets).build(),
@@ -301,7 +447,7 @@ public SpongeOrderedCallback(Object plugin, Callback callback) {
         public List<Ticket> ticketsLoaded(List<Ticket> tickets, net.minecraft.world.World world, int maxTicketCount) {
             List<LoadingTicket> spongeLoadingTickets = new ArrayList<>();
             for (Ticket ticket : tickets) {
-                spongeLoadingTickets.add(new SpongeLoadingTicket(ticket));
+                spongeLoadingTickets.add(getLoadingTicket(ticket));
             }
 
             OrderedCallback spongeOrderedCallback = (OrderedCallback) this.spongeLoadingCallback;
@@ -330,7 +476,7 @@ public ListMultimap<String, Ticket> playerTicketsLoaded(ListMultimap<String, Tic
             for (Map.Entry<String, Ticket> mapEntry : tickets.entries()) {
                 Optional<Player> player = SpongeImpl.getGame().getServer().getPlayer(mapEntry.getKey());
                 if (player.isPresent()) {
-                    spongeLoadingTickets.put(player.get().getUniqueId(), new SpongePlayerLoadingTicket(mapEntry.getValue()));
+                    spongeLoadingTickets.put(player.get().getUniqueId(), getLoadingTicket(mapEntry.getValue()));
                 }
             }
 
@@ -33,6 +33,7 @@
 import net.minecraft.util.DamageSource;
 import net.minecraftforge.common.ISpecialArmor;
 import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.LoaderState;
 import net.minecraftforge.fml.common.ModContainer;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
@@ -46,7 +47,9 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -56,6 +59,8 @@ public final class StaticMixinForgeHelper {
     @Nullable
     public static IBlockState breakEventExtendedState = null;
 
+    private static final Map<String, String> modIdByPackage = new ConcurrentHashMap<>();
+
     // Whether to prevent ForgeInternalHandler#onEntityJoinWorld from handling custom Item entities (due to Sponge already handling it)
     public static boolean preventInternalForgeEntityListener = false;
 
@@ -263,12 +268,23 @@ private static void sortProperties(ISpecialArmor.ArmorProperties[] armor, double
     public static String getModIdFromClass(Class clazz) {
         String modId = clazz.getName().contains("net.minecraft.") ? "minecraft" : "unknown";
         String modPackage = clazz.getName().replace("." + clazz.getSimpleName(), "");
+        // The owned packages of the mods are final once they are constructed
+        final boolean cache = Loader.instance().hasReachedState(LoaderState.PREINITIALIZATION);
+        if (cache) {
+            final String cachedModId = modIdByPackage.get(modPackage);
+            if (cachedModId != null) {
+                return cachedModId;
+            }
+        }
         for (ModContainer mc : Loader.instance().getActiveModList()) {
             if (mc.getOwnedPackages().contains(modPackage)) {
                 modId = mc.getModId();
                 break;
             }
         }
+        if (cache) {
+            modIdByPackage.put(modPackage, modId);
+        }
 
         return modId;
     }
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.MinecraftException;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.interfaces.IMixinAnvilChunkLoader;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Saves unloaded chunks of a world, encoding their block sections on a worker
+ * thread.
+ *
+ * <p>Everything that calls into mods or reads world state, such as entities,
+ * block entities and pending block ticks, is written on the main thread when
+ * the chunk is unloaded, just like vanilla does. Only the block sections of
+ * the unloaded chunk are encoded on the worker. Chunks are committed to the
+ * chunk loader on the main thread in the order they were unloaded, within
+ * the time left of the tick budget, and compressed on the file IO thread as
+ * usual. Before a queued chunk is loaded again, its save is finished right
+ * away so the chunk is never read back from disk in an outdated state.</p>
+ */
+public final class ChunkSaveQueue {
+
+    private static final ExecutorService SERIALIZER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge Chunk Serializer")
+            .setDaemon(true)
+            .build());
+
+    private final WorldServer world;
+    private final IMixinAnvilChunkLoader chunkLoader;
+    private final Map<Long, PendingSave> pending = new LinkedHashMap<>();
+
+    public ChunkSaveQueue(WorldServer world, IMixinAnvilChunkLoader chunkLoader) {
+        this.world = world;
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Queues the given unloaded chunk to be saved.
+     *
+     * @param chunk The chunk
+     */
+    public void queue(Chunk chunk) {
+        chunk.setLastSaveTime(this.world.getTotalWorldTime());
+        final NBTTagCompound compound = this.chunkLoader.writeChunkData(this.world, chunk);
+        final Future<NBTTagList> sections = SERIALIZER.submit(() -> this.chunkLoader.writeChunkSections(this.world, chunk));
+        this.pending.put(ChunkPos.chunkXZ2Int(chunk.xPosition, chunk.zPosition), new PendingSave(chunk, compound, sections));
+    }
+
+    /**
+     * Commits encoded chunks until the given deadline has passed.
+     *
+     * @param deadline The {@link System#nanoTime()} to stop committing at
+     */
+    public void tick(long deadline) {
+        for (Iterator<PendingSave> iterator = this.pending.values().iterator(); iterator.hasNext(); ) {
+            final PendingSave save = iterator.next();
+            // Keep committing in order
+            if (!save.sections.isDone()) {
+                break;
+            }
+            iterator.remove();
+            commit(save);
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Finishes saving the chunk at the given position if it is queued.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     */
+    public void flush(int chunkX, int chunkZ) {
+        if (!this.pending.isEmpty()) {
+            final PendingSave save = this.pending.remove(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+            if (save != null) {
+                commit(save);
+            }
+        }
+    }
+
+    /**
+     * Finishes saving all queued chunks.
+     */
+    public void flush() {
+        for (PendingSave save : this.pending.values()) {
+            commit(save);
+        }
+        this.pending.clear();
+    }
+
+    private void commit(PendingSave save) {
+        NBTTagList sections = null;
+        try {
+            sections = save.sections.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().error("Couldn't encode chunk {}, {} on the worker, retrying on the main thread",
+                    save.chunk.xPosition, save.chunk.zPosition, e.getCause());
+        }
+        try {
+            if (sections == null) {
+                sections = this.chunkLoader.writeChunkSections(this.world, save.chunk);
+            }
+            this.chunkLoader.commitChunk(this.world, save.chunk, save.compound, sections);
+        } catch (MinecraftException e) {
+            SpongeImpl.getLogger().error("Couldn't save chunk; already in use by another instance of Minecraft?", e);
+        }
+    }
+
+    private static final class PendingSave {
+
+        final Chunk chunk;
+        final NBTTagCompound compound;
+        final Future<NBTTagList> sections;
+
+        PendingSave(Chunk chunk, NBTTagCompound compound, Future<NBTTagList> sections) {
+            this.chunk = chunk;
+            this.compound = compound;
+            this.sections = sections;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.WorldProvider;
+import net.minecraftforge.common.util.Constants;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.util.StaticMixinForgeHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * The save folder and owning mod of each dimension, kept in the save
+ * directory so they can be looked up without constructing a
+ * {@link WorldProvider} of the dimension.
+ *
+ * <p>Entries are dropped when loaded if their dimension is no longer
+ * registered with the same dimension type.</p>
+ */
+public final class DimensionMetadataIndex {
+
+    private static final String FILE_NAME = "sponge_dimensions.dat";
+
+    private static final Int2ObjectMap<Metadata> dimensions = new Int2ObjectOpenHashMap<>();
+    @Nullable private static File file;
+    private static boolean dirty;
+
+    private DimensionMetadataIndex() {
+    }
+
+    /**
+     * Loads the index stored in the given save directory, replacing the
+     * current one.
+     *
+     * @param rootDirectory The save directory
+     */
+    public static void load(File rootDirectory) {
+        dimensions.clear();
+        dirty = false;
+        file = new File(rootDirectory, FILE_NAME);
+        if (!file.isFile()) {
+            return;
+        }
+        try {
+            final NBTTagList list = CompressedStreamTools.read(file).getTagList("Dimensions", Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < list.tagCount(); i++) {
+                final NBTTagCompound compound = list.getCompoundTagAt(i);
+                final int dimensionId = compound.getInteger("Id");
+                final Optional<DimensionType> dimensionType = WorldManager.getDimensionType(dimensionId);
+                if (dimensionType.isPresent() && dimensionType.get().getId() == compound.getInteger("TypeId")
+                        && dimensionType.get().getName().equals(compound.getString("Type"))) {
+                    final String folder = compound.hasKey("Folder", Constants.NBT.TAG_STRING) ? compound.getString("Folder") : null;
+                    dimensions.put(dimensionId, new Metadata(dimensionType.get(), folder, compound.getString("ModId")));
+                } else {
+                    dirty = true;
+                }
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Couldn't read the dimension index {}, rebuilding it.", file, e);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Saves the index if it changed since it was loaded or last saved.
+     */
+    public static void save() {
+        if (!dirty || file == null) {
+            return;
+        }
+        final NBTTagList list = new NBTTagList();
+        for (Int2ObjectMap.Entry<Metadata> entry : dimensions.int2ObjectEntrySet()) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setInteger("Id", entry.getIntKey());
+            compound.setInteger("TypeId", entry.getValue().dimensionType.getId());
+            compound.setString("Type", entry.getValue().dimensionType.getName());
+            if (entry.getValue().folder != null) {
+                compound.setString("Folder", entry.getValue().folder);
+            }
+            compound.setString("ModId", entry.getValue().modId);
+            list.appendTag(compound);
+        }
+        final NBTTagCompound root = new NBTTagCompound();
+        root.setTag("Dimensions", list);
+        try {
+            CompressedStreamTools.safeWrite(root, file);
+            dirty = false;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Couldn't write the dimension index {}.", file, e);
+        }
+    }
+
+    /**
+     * Gets the metadata of the given dimension, constructing its provider if
+     * it isn't indexed yet.
+     *
+     * @param dimensionId The dimension id
+     * @param dimensionType The dimension type the dimension is registered with
+     * @return The metadata
+     */
+    public static Metadata get(int dimensionId, DimensionType dimensionType) {
+        Metadata metadata = dimensions.get(dimensionId);
+        if (metadata == null || metadata.dimensionType != dimensionType) {
+            final WorldProvider provider = dimensionType.createDimension();
+            // make sure to set the dimension id to avoid getting a null save folder
+            provider.setDimension(dimensionId);
+            metadata = new Metadata(dimensionType, provider.getSaveFolder(), StaticMixinForgeHelper.getModIdFromClass(provider.getClass()));
+            dimensions.put(dimensionId, metadata);
+            dirty = true;
+        }
+        return metadata;
+    }
+
+    public static final class Metadata {
+
+        final DimensionType dimensionType;
+        @Nullable final String folder;
+        final String modId;
+
+        Metadata(DimensionType dimensionType, @Nullable String folder, String modId) {
+            this.dimensionType = dimensionType;
+            this.folder = folder;
+            this.modId = modId;
+        }
+
+        /**
+         * Gets the save folder of the dimension, relative to the save
+         * directory.
+         *
+         * @return The folder, or null for the overworld
+         */
+        @Nullable
+        public String getFolder() {
+            return this.folder;
+        }
+
+        public String getModId() {
+            return this.modId;
+        }
+    }
+}
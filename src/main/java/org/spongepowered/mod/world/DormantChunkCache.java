@@ -0,0 +1,207 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.common.SpongeImpl;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps recently unloaded chunks of a world in memory, so loading them again
+ * doesn't have to read them from disk. Replaces the dormant chunk cache of
+ * {@link net.minecraftforge.common.ForgeChunkManager}.
+ *
+ * <p>The least recently unloaded chunks are evicted once the approximate heap
+ * size of all cached chunks exceeds the limit of the world. The limit is set
+ * in megabytes through the {@code sponge.dormantChunks.maxMemory} system
+ * property, and may be overridden for a single world through
+ * {@code sponge.dormantChunks.maxMemory.<world name>}. Without a limit, or
+ * with a limit of 0, the cache is disabled and chunks are left to the cache
+ * of Forge, sized by its {@code dormantChunkCacheSize} setting. How well the
+ * cache performed is logged once its world is unloaded or the server
+ * stops.</p>
+ */
+public final class DormantChunkCache {
+
+    private static final String MAX_MEMORY_PROPERTY = "sponge.dormantChunks.maxMemory";
+
+    // Approximate heap size of the parts of a chunk, block states and light of a section as well
+    // as the height map, biomes and maps of the chunk itself
+    private static final int SECTION_SIZE = 12 * 1024;
+    private static final int CHUNK_SIZE = 4 * 1024;
+    private static final int ENTITY_SIZE = 1024;
+
+    private final WorldServer world;
+    private final long maxMemory;
+    private final Long2ObjectLinkedOpenHashMap<DormantChunk> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private long memory;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DormantChunkCache(WorldServer world) {
+        this.world = world;
+        final int defaultMaxMemory = Integer.getInteger(MAX_MEMORY_PROPERTY, 0);
+        this.maxMemory = Math.max(0, Integer.getInteger(MAX_MEMORY_PROPERTY + '.' + world.getWorldInfo().getWorldName(),
+                defaultMaxMemory)) * 1024L * 1024L;
+    }
+
+    /**
+     * Gets whether this cache replaces the dormant chunk cache of Forge.
+     *
+     * @return True if a limit is set for this world
+     */
+    public boolean isEnabled() {
+        return this.maxMemory > 0;
+    }
+
+    /**
+     * Caches the given chunk, which has just been unloaded.
+     *
+     * @param coords The packed chunk position
+     * @param chunk The chunk
+     */
+    public void put(long coords, Chunk chunk) {
+        if (this.maxMemory == 0) {
+            return;
+        }
+        final DormantChunk dormantChunk = new DormantChunk(chunk);
+        final DormantChunk previous = this.chunks.putAndMoveToLast(coords, dormantChunk);
+        if (previous != null) {
+            this.memory -= previous.size;
+        }
+        this.memory += dormantChunk.size;
+        while (this.memory > this.maxMemory && !this.chunks.isEmpty()) {
+            this.memory -= this.chunks.removeFirst().size;
+            this.evictions++;
+        }
+    }
+
+    /**
+     * Removes the chunk at the given position from the cache, giving its
+     * entities new ids.
+     *
+     * @param coords The packed chunk position
+     * @return The chunk, or null if it isn't cached
+     */
+    @Nullable
+    public Chunk fetch(long coords) {
+        if (this.maxMemory == 0) {
+            return null;
+        }
+        final DormantChunk dormantChunk = this.chunks.remove(coords);
+        if (dormantChunk == null) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        this.memory -= dormantChunk.size;
+        dormantChunk.restore();
+        return dormantChunk.chunk;
+    }
+
+    public void clear() {
+        this.chunks.clear();
+        this.memory = 0;
+    }
+
+    public int size() {
+        return this.chunks.size();
+    }
+
+    /**
+     * Gets the approximate heap size of the cached chunks.
+     *
+     * @return The size in bytes
+     */
+    public long getMemory() {
+        return this.memory;
+    }
+
+    public long getMaxMemory() {
+        return this.maxMemory;
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Logs how well the cache performed for its world, to help sizing it.
+     */
+    public void logStatistics() {
+        final long fetches = this.hits + this.misses;
+        SpongeImpl.getLogger().info("Dormant chunk cache of world [{}]: {} hits, {} misses ({}% hit rate), {} evictions, "
+                        + "{} chunks cached in {} of {} MB",
+                this.world.getWorldInfo().getWorldName(), this.hits, this.misses, fetches == 0 ? 0 : this.hits * 100 / fetches,
+                this.evictions, this.chunks.size(), this.memory / (1024 * 1024), this.maxMemory / (1024 * 1024));
+    }
+
+    private static final class DormantChunk {
+
+        final Chunk chunk;
+        final int size;
+
+        DormantChunk(Chunk chunk) {
+            this.chunk = chunk;
+            int entities = chunk.getTileEntityMap().size();
+            for (ClassInheritanceMultiMap<Entity> entityList : chunk.getEntityLists()) {
+                entities += entityList.size();
+            }
+            int size = CHUNK_SIZE + entities * ENTITY_SIZE;
+            for (ExtendedBlockStorage section : chunk.getBlockStorageArray()) {
+                if (section != Chunk.NULL_BLOCK_STORAGE) {
+                    size += SECTION_SIZE;
+                }
+            }
+            this.size = size;
+        }
+
+        // The entities were removed from the world on unload, they are added again once the
+        // chunk is loaded under a new id, the same way Forge does
+        void restore() {
+            for (ClassInheritanceMultiMap<Entity> entityList : this.chunk.getEntityLists()) {
+                for (Entity entity : entityList) {
+                    entity.resetEntityId();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.ForgeChunkManager;
+import net.minecraftforge.common.ForgeChunkManager.Ticket;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.mod.service.world.ChunkTickLevel;
+import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The chunks of a world forced by any Forge ticket, along with the highest
+ * load priority and tick level of the tickets forcing them.
+ *
+ * <p>Kept up to date whenever a chunk is forced or unforced, or the settings
+ * of a ticket change.</p>
+ */
+public final class ForcedChunkIndex {
+
+    // Forced chunks loaded per tick, the ones with a lower priority wait for the following ticks
+    private static final int MAX_LOADS_PER_TICK = 16;
+
+    private final WorldServer world;
+    private final Long2ObjectMap<ForcedChunk> chunks = new Long2ObjectOpenHashMap<>();
+    // The forced chunks by descending priority, null if it has to be sorted again
+    @Nullable private ForcedChunk[] loadOrder;
+
+    public ForcedChunkIndex(WorldServer world) {
+        this.world = world;
+    }
+
+    public boolean isForced(int chunkX, int chunkZ) {
+        return !this.chunks.isEmpty() && this.chunks.containsKey(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets the highest load priority of the tickets forcing chunks in this
+     * world.
+     *
+     * @return The priority, or {@link Integer#MIN_VALUE} if no chunk is forced
+     */
+    public int getHighestPriority() {
+        int priority = Integer.MIN_VALUE;
+        for (ForcedChunk forcedChunk : this.chunks.values()) {
+            priority = Math.max(priority, forcedChunk.priority);
+        }
+        return priority;
+    }
+
+    /**
+     * Gets the tick level of the chunk at the given position.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @return The tick level, or null if the chunk isn't forced
+     */
+    @Nullable
+    public ChunkTickLevel getTickLevel(int chunkX, int chunkZ) {
+        if (this.chunks.isEmpty()) {
+            return null;
+        }
+        final ForcedChunk forcedChunk = this.chunks.get(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+        return forcedChunk == null ? null : forcedChunk.tickLevel;
+    }
+
+    /**
+     * Updates the chunk at the given position from the tickets forcing it,
+     * including the persisted state of the chunk if it's currently loaded.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @param tickets The tickets forcing the chunk, empty if it isn't forced
+     */
+    public void update(int chunkX, int chunkZ, Collection<Ticket> tickets) {
+        final long key = ChunkPos.chunkXZ2Int(chunkX, chunkZ);
+        if (tickets.isEmpty()) {
+            if (this.chunks.remove(key) != null) {
+                this.loadOrder = null;
+                setPersisted(chunkX, chunkZ, false);
+            }
+            return;
+        }
+        int priority = Integer.MIN_VALUE;
+        ChunkTickLevel tickLevel = ChunkTickLevel.BORDER;
+        for (Ticket ticket : tickets) {
+            priority = Math.max(priority, SpongeChunkTicketManager.getLoadPriority(ticket));
+            final ChunkTickLevel ticketLevel = SpongeChunkTicketManager.getTickLevel(ticket);
+            if (ticketLevel.compareTo(tickLevel) > 0) {
+                tickLevel = ticketLevel;
+            }
+        }
+        final ForcedChunk forcedChunk = this.chunks.get(key);
+        if (forcedChunk == null) {
+            this.chunks.put(key, new ForcedChunk(chunkX, chunkZ, priority, tickLevel));
+            setPersisted(chunkX, chunkZ, true);
+        } else {
+            forcedChunk.priority = priority;
+            forcedChunk.tickLevel = tickLevel;
+        }
+        this.loadOrder = null;
+    }
+
+    private void setPersisted(int chunkX, int chunkZ, boolean persisted) {
+        final Chunk chunk = this.world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk != null) {
+            ((IMixinChunk) chunk).setPersistedChunk(persisted);
+        }
+    }
+
+    /**
+     * Gets the chunks to tick blocks in, loading forced chunks which aren't
+     * loaded yet by priority.
+     *
+     * @param chunkIterator The chunks watched by players
+     * @return The chunks to tick
+     */
+    public Iterator<Chunk> getTickedChunks(Iterator<Chunk> chunkIterator) {
+        final ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks = ForgeChunkManager.getPersistentChunksFor(this.world);
+        if (forgeForcedChunks.keySet().size() != this.chunks.size()) {
+            // Chunks were forced without going through ForgeChunkManager#forceChunk or #unforceChunk
+            rebuild(forgeForcedChunks);
+        }
+        final ImmutableSet.Builder<Chunk> builder = ImmutableSet.builder();
+        this.world.theProfiler.startSection("forcedChunkLoading");
+        if (!this.chunks.isEmpty()) {
+            if (this.loadOrder == null) {
+                this.loadOrder = this.chunks.values().toArray(new ForcedChunk[this.chunks.size()]);
+                Arrays.sort(this.loadOrder, (first, second) -> Integer.compare(second.priority, first.priority));
+            }
+            final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+            int loads = 0;
+            for (ForcedChunk forcedChunk : this.loadOrder) {
+                Chunk chunk = chunkProvider.getLoadedChunk(forcedChunk.chunkX, forcedChunk.chunkZ);
+                if (chunk == null) {
+                    if (loads >= MAX_LOADS_PER_TICK) {
+                        continue;
+                    }
+                    loads++;
+                    chunk = chunkProvider.provideChunk(forcedChunk.chunkX, forcedChunk.chunkZ);
+                }
+                // Random block ticks, the chunks of other levels are only ticked if watched by a player
+                if (forcedChunk.tickLevel == ChunkTickLevel.FULL) {
+                    builder.add(chunk);
+                }
+            }
+        }
+        this.world.theProfiler.endStartSection("regularChunkLoading");
+        builder.addAll(chunkIterator);
+        this.world.theProfiler.endSection();
+        return builder.build().iterator();
+    }
+
+    private void rebuild(ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks) {
+        final long[] keys = this.chunks.keySet().toLongArray();
+        for (long key : keys) {
+            final ForcedChunk forcedChunk = this.chunks.get(key);
+            if (!forgeForcedChunks.containsKey(new ChunkPos(forcedChunk.chunkX, forcedChunk.chunkZ))) {
+                update(forcedChunk.chunkX, forcedChunk.chunkZ, ImmutableSet.of());
+            }
+        }
+        for (Map.Entry<ChunkPos, Collection<Ticket>> entry : forgeForcedChunks.asMap().entrySet()) {
+            update(entry.getKey().chunkXPos, entry.getKey().chunkZPos, entry.getValue());
+        }
+    }
+
+    private static final class ForcedChunk {
+
+        final int chunkX;
+        final int chunkZ;
+        int priority;
+        ChunkTickLevel tickLevel;
+
+        ForcedChunk(int chunkX, int chunkZ, int priority, ChunkTickLevel tickLevel) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.priority = priority;
+            this.tickLevel = tickLevel;
+        }
+    }
+}
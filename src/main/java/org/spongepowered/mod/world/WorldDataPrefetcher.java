@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
+import net.minecraft.world.storage.SaveFormatOld;
+import net.minecraft.world.storage.SaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.StartupQuery;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the data of all worlds in the save directory on a worker pool while
+ * the server loads its worlds at start up, one after another.
+ *
+ * <p>The level data of each world is read ahead and handed to
+ * {@link SaveHandler#loadWorldInfo} once the world gets loaded. The Sponge
+ * level data and the region headers are only read to have them cached by the
+ * file system by the time they are needed. Everything touching the state of
+ * the server still happens on the main thread.</p>
+ *
+ * <p>The number of threads is set through the {@code sponge.world.loadThreads}
+ * system property, 0 loads worlds without reading ahead.</p>
+ */
+public final class WorldDataPrefetcher {
+
+    private static final int THREADS = Integer.getInteger("sponge.world.loadThreads",
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final String LEVEL_DATA = "level.dat";
+    private static final String SPONGE_LEVEL_DATA = "level_sponge.dat";
+    private static final int REGION_HEADER_SIZE = 8192;
+
+    @Nullable private static ExecutorService executor;
+    private static final Map<File, Prefetched> levelData = new HashMap<>();
+
+    private WorldDataPrefetcher() {
+    }
+
+    /**
+     * Starts reading the data of the worlds in the given save directory.
+     *
+     * @param rootDirectory The save directory, containing the overworld
+     */
+    public static void start(File rootDirectory) {
+        if (THREADS <= 0 || executor != null) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(THREADS, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge World Loader #%d")
+                .setDaemon(true)
+                .build());
+        prefetch(key(rootDirectory));
+        final File[] children = rootDirectory.listFiles(File::isDirectory);
+        if (children != null) {
+            for (File child : children) {
+                if (new File(child, LEVEL_DATA).isFile()) {
+                    prefetch(key(child));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops reading ahead and drops the data of worlds which weren't loaded.
+     */
+    public static void finish() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        levelData.clear();
+    }
+
+    private static File key(File file) {
+        return file.toPath().toAbsolutePath().normalize().toFile();
+    }
+
+    private static void prefetch(File worldDirectory) {
+        final File levelFile = new File(worldDirectory, LEVEL_DATA);
+        if (levelFile.isFile()) {
+            levelData.put(levelFile, new Prefetched(levelFile.lastModified(), executor.submit(() -> {
+                try (InputStream inputStream = new FileInputStream(levelFile)) {
+                    return CompressedStreamTools.readCompressed(inputStream);
+                }
+            })));
+        }
+        executor.execute(() -> {
+            readAhead(new File(worldDirectory, SPONGE_LEVEL_DATA), Integer.MAX_VALUE);
+            final File[] regionFiles = new File(worldDirectory, "region").listFiles((dir, name) -> name.endsWith(".mca"));
+            if (regionFiles != null) {
+                for (File regionFile : regionFiles) {
+                    readAhead(regionFile, REGION_HEADER_SIZE);
+                }
+            }
+        });
+    }
+
+    private static void readAhead(File file, int length) {
+        if (!file.isFile()) {
+            return;
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            final byte[] buffer = new byte[(int) Math.min(length, randomAccessFile.length())];
+            randomAccessFile.readFully(buffer);
+        } catch (IOException ignored) {
+            // Only read to warm up the file system cache, the world loading will report it
+        }
+    }
+
+    /**
+     * Loads the world info from the given level data file, using the data read
+     * ahead if available.
+     *
+     * @see SaveFormatOld#loadAndFix(File, DataFixer, SaveHandler)
+     */
+    @Nullable
+    public static WorldInfo loadAndFix(File file, DataFixer fixer, SaveHandler handler) {
+        final NBTTagCompound compound = take(file);
+        if (compound == null) {
+            return SaveFormatOld.loadAndFix(file, fixer, handler);
+        }
+        try {
+            final WorldInfo worldInfo = new WorldInfo(fixer.process(FixTypes.LEVEL, compound.getCompoundTag("Data")));
+            FMLCommonHandler.instance().handleWorldDataLoad(handler, worldInfo, compound);
+            return worldInfo;
+        } catch (StartupQuery.AbortedException e) {
+            throw e;
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Exception reading " + file, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static NBTTagCompound take(File file) {
+        if (levelData.isEmpty()) {
+            return null;
+        }
+        final Prefetched prefetched = levelData.remove(key(file));
+        if (prefetched == null || prefetched.lastModified != file.lastModified()) {
+            return null;
+        }
+        try {
+            return prefetched.compound.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // Read it again on the main thread to report the error the usual way
+            return null;
+        }
+    }
+
+    private static final class Prefetched {
+
+        final long lastModified;
+        final Future<NBTTagCompound> compound;
+
+        Prefetched(long lastModified, Future<NBTTagCompound> compound) {
+            this.lastModified = lastModified;
+            this.compound = compound;
+        }
+    }
+}
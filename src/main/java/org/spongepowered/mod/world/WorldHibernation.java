@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.interfaces.IMixinWorldServerForge;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Unloads idle dimensions, which have no players and are only held loaded by
+ * tickets of a low load priority.
+ *
+ * <p>The tickets of a hibernated world are saved along with it and force
+ * their chunks again once the world is resumed. The properties of the world
+ * are kept so {@link net.minecraftforge.common.DimensionManager#initDimension}
+ * can load it again without looking them up.</p>
+ *
+ * <p>Hibernation is enabled by setting the idle time in minutes through the
+ * {@code sponge.hibernation.idleMinutes} system property, 0 disables it.
+ * Tickets with a priority above {@code sponge.hibernation.maxTicketPriority}
+ * keep their world awake, by default any ticket which wasn't given a lower
+ * priority than the default.</p>
+ */
+public final class WorldHibernation {
+
+    private static final long IDLE_TIME = TimeUnit.MINUTES.toNanos(Integer.getInteger("sponge.hibernation.idleMinutes", 0));
+    private static final int MAX_TICKET_PRIORITY = Integer.getInteger("sponge.hibernation.maxTicketPriority", -1);
+    // Ticks between checking the loaded worlds
+    private static final int CHECK_INTERVAL = 20;
+
+    private static final Int2LongMap idleSince = new Int2LongOpenHashMap();
+    private static final Int2ObjectMap<WorldProperties> hibernatedWorlds = new Int2ObjectOpenHashMap<>();
+    private static int ticks;
+
+    private WorldHibernation() {
+    }
+
+    /**
+     * Queues the worlds which have been idle for long enough to be unloaded.
+     */
+    public static void tick() {
+        if (IDLE_TIME <= 0 || ++ticks < CHECK_INTERVAL) {
+            return;
+        }
+        ticks = 0;
+        final long now = System.nanoTime();
+        for (WorldServer worldServer : WorldManager.getWorlds()) {
+            final int dimensionId = ((IMixinWorldServer) worldServer).getDimensionId();
+            // Still loaded, unloading it was cancelled
+            hibernatedWorlds.remove(dimensionId);
+            if (!isIdle(dimensionId, worldServer)) {
+                idleSince.remove(dimensionId);
+                continue;
+            }
+            if (!idleSince.containsKey(dimensionId)) {
+                idleSince.put(dimensionId, now);
+            } else if (now - idleSince.get(dimensionId) >= IDLE_TIME) {
+                SpongeImpl.getLogger().info("World [{}] (DIM{}) has been idle for {} minutes, hibernating...",
+                        worldServer.getWorldInfo().getWorldName(), dimensionId, TimeUnit.NANOSECONDS.toMinutes(IDLE_TIME));
+                idleSince.remove(dimensionId);
+                hibernatedWorlds.put(dimensionId, (WorldProperties) worldServer.getWorldInfo());
+                WorldManager.queueWorldToUnload(worldServer);
+            }
+        }
+    }
+
+    private static boolean isIdle(int dimensionId, WorldServer worldServer) {
+        if (dimensionId == 0 || !worldServer.playerEntities.isEmpty()) {
+            return false;
+        }
+        final WorldProperties properties = (WorldProperties) worldServer.getWorldInfo();
+        if (properties.doesKeepSpawnLoaded()) {
+            return false;
+        }
+        return ((IMixinWorldServerForge) worldServer).getForcedChunkIndex().getHighestPriority() <= MAX_TICKET_PRIORITY;
+    }
+
+    /**
+     * Removes the world of the given dimension from hibernation.
+     *
+     * @param dimensionId The dimension id
+     * @return The properties of the world, or null if it isn't hibernating
+     */
+    @Nullable
+    public static WorldProperties resume(int dimensionId) {
+        return hibernatedWorlds.remove(dimensionId);
+    }
+
+    /**
+     * Forgets the hibernated worlds once the server stopped, as the next
+     * server may load another save.
+     */
+    public static void reset() {
+        idleSince.clear();
+        hibernatedWorlds.clear();
+        ticks = 0;
+    }
+}
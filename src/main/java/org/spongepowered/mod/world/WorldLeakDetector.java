@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldManager;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tracks unloaded worlds on a background thread, reporting the ones which
+ * aren't garbage collected within a while along with the loaded entities,
+ * block entities and players still referring to them.
+ */
+public final class WorldLeakDetector {
+
+    // Time an unloaded world may take to be collected, doubled after every report
+    private static final long GRACE_PERIOD = TimeUnit.MINUTES.toNanos(Integer.getInteger("sponge.world.leakGraceMinutes", 5));
+    private static final long CHECK_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private static final ReferenceQueue<WorldServer> queue = new ReferenceQueue<>();
+    private static final Set<UnloadedWorld> unloadedWorlds = ConcurrentHashMap.newKeySet();
+    @Nullable private static Thread thread;
+
+    private WorldLeakDetector() {
+    }
+
+    /**
+     * Starts tracking the given world, which has just been unloaded.
+     *
+     * @param worldServer The world
+     */
+    public static synchronized void track(WorldServer worldServer) {
+        unloadedWorlds.add(new UnloadedWorld(worldServer));
+        if (thread == null) {
+            thread = new Thread(WorldLeakDetector::run, "Sponge World Leak Detector");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private static void run() {
+        while (true) {
+            try {
+                Reference<? extends WorldServer> reference = queue.remove(CHECK_INTERVAL);
+                while (reference != null) {
+                    unloadedWorlds.remove(reference);
+                    reference = queue.poll();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            final long now = System.nanoTime();
+            for (UnloadedWorld unloadedWorld : unloadedWorlds) {
+                if (now >= unloadedWorld.reportTime) {
+                    unloadedWorld.reportTime = now + (GRACE_PERIOD << ++unloadedWorld.reports);
+                    report(unloadedWorld);
+                }
+            }
+        }
+    }
+
+    private static void report(UnloadedWorld unloadedWorld) {
+        final MinecraftServer server = SpongeImpl.getServer();
+        final WorldServer worldServer = unloadedWorld.get();
+        if (server == null || worldServer == null) {
+            return;
+        }
+        // The worlds are only safe to look through on the main thread
+        server.addScheduledTask(() -> {
+            final Multiset<String> retainers = HashMultiset.create();
+            for (WorldServer loadedWorld : WorldManager.getWorlds()) {
+                for (Entity entity : loadedWorld.loadedEntityList) {
+                    if (entity.worldObj == worldServer) {
+                        retainers.add("entity " + entity.getClass().getName() + " in " + loadedWorld.getWorldInfo().getWorldName());
+                    }
+                }
+                for (TileEntity tileEntity : loadedWorld.loadedTileEntityList) {
+                    if (tileEntity.getWorld() == worldServer) {
+                        retainers.add("block entity " + tileEntity.getClass().getName() + " in " + loadedWorld.getWorldInfo().getWorldName());
+                    }
+                }
+            }
+            for (EntityPlayerMP player : server.getPlayerList().getPlayerList()) {
+                if (player.worldObj == worldServer) {
+                    retainers.add("player " + player.getName());
+                }
+            }
+            final long minutes = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - unloadedWorld.unloadTime);
+            if (retainers.isEmpty()) {
+                SpongeImpl.getLogger().warn("World [{}] (DIM{}) (HASH: {}) may have leaked, it was unloaded {} minutes ago. It isn't retained by "
+                        + "any loaded entity, block entity or player.", unloadedWorld.name, unloadedWorld.dimensionId, unloadedWorld.hash, minutes);
+            } else {
+                SpongeImpl.getLogger().warn("World [{}] (DIM{}) (HASH: {}) may have leaked, it was unloaded {} minutes ago. It is retained by {}",
+                        unloadedWorld.name, unloadedWorld.dimensionId, unloadedWorld.hash, minutes, retainers);
+            }
+        });
+    }
+
+    private static final class UnloadedWorld extends WeakReference<WorldServer> {
+
+        final String name;
+        final int dimensionId;
+        final int hash;
+        final long unloadTime;
+        volatile long reportTime;
+        int reports;
+
+        UnloadedWorld(WorldServer worldServer) {
+            super(worldServer, queue);
+            this.name = worldServer.getWorldInfo().getWorldName();
+            this.dimensionId = ((IMixinWorldServer) worldServer).getDimensionId();
+            this.hash = System.identityHashCode(worldServer);
+            this.unloadTime = System.nanoTime();
+            this.reportTime = this.unloadTime + GRACE_PERIOD;
+        }
+    }
+}
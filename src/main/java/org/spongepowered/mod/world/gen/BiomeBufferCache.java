@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the biomes generated for the terrain of a chunk until the chunk is
+ * populated, so they don't have to be generated again for population.
+ *
+ * <p>The immutable volume the terrain was generated with is kept and handed
+ * to all populators of the chunk as is, without copying it again.</p>
+ */
+final class BiomeBufferCache {
+
+    // Chunks waiting for population at the edge of the explored area keep their biomes until dropped from here
+    private static final int MAX_CACHED_CHUNKS = 1024;
+
+    private final Long2ObjectLinkedOpenHashMap<ImmutableBiomeVolume> biomes = new Long2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * Keeps the biomes the terrain of the given chunk was generated with.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @param biomes The biomes
+     */
+    synchronized void put(int chunkX, int chunkZ, ImmutableBiomeVolume biomes) {
+        this.biomes.putAndMoveToLast(ChunkPos.chunkXZ2Int(chunkX, chunkZ), biomes);
+        if (this.biomes.size() > MAX_CACHED_CHUNKS) {
+            this.biomes.removeFirst();
+        }
+    }
+
+    /**
+     * Removes the biomes generated for the given chunk from the cache.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @return The biomes, or null if they aren't cached
+     */
+    @Nullable
+    synchronized ImmutableBiomeVolume take(int chunkX, int chunkZ) {
+        if (this.biomes.isEmpty()) {
+            return null;
+        }
+        return this.biomes.remove(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+    }
+
+    synchronized void clear() {
+        this.biomes.clear();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.IChunkGenerator;
+import net.minecraft.world.gen.feature.WorldGenerator;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
+import net.minecraftforge.event.terraingen.OreGenEvent.GenerateMinable;
+import net.minecraftforge.event.terraingen.PopulateChunkEvent.Populate;
+import net.minecraftforge.event.terraingen.TerrainGen;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.data.type.StoneType;
+import org.spongepowered.api.data.type.StoneTypes;
+import org.spongepowered.api.world.gen.Populator;
+import org.spongepowered.api.world.gen.populator.BigMushroom;
+import org.spongepowered.api.world.gen.populator.Cactus;
+import org.spongepowered.api.world.gen.populator.DeadBush;
+import org.spongepowered.api.world.gen.populator.Dungeon;
+import org.spongepowered.api.world.gen.populator.Flower;
+import org.spongepowered.api.world.gen.populator.Forest;
+import org.spongepowered.api.world.gen.populator.Glowstone;
+import org.spongepowered.api.world.gen.populator.Lake;
+import org.spongepowered.api.world.gen.populator.Mushroom;
+import org.spongepowered.api.world.gen.populator.Ore;
+import org.spongepowered.api.world.gen.populator.Pumpkin;
+import org.spongepowered.api.world.gen.populator.RandomBlock;
+import org.spongepowered.api.world.gen.populator.Reed;
+import org.spongepowered.api.world.gen.populator.SeaFloor;
+import org.spongepowered.api.world.gen.populator.Shrub;
+import org.spongepowered.api.world.gen.populator.WaterLily;
+import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.gen.populators.AnimalPopulator;
+import org.spongepowered.common.world.gen.populators.SnowPopulator;
+import org.spongepowered.mod.event.EventListenerMask;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+/**
+ * The Forge terrain generation event a populator is run through, which lets
+ * mods deny running it.
+ *
+ * <p>Which event is fixed for most populators in a given world, so it is
+ * resolved once and kept in the {@link PopulatorPlan}. The event of
+ * populators whose settings decide it is resolved every time instead.</p>
+ */
+final class ForgePopulatorEvent {
+
+    static final ForgePopulatorEvent NONE = new ForgePopulatorEvent(null, null, null);
+
+    @Nullable private final GenerateMinable.EventType oreType;
+    @Nullable private final Populate.EventType populateType;
+    @Nullable private final Decorate.EventType decorateType;
+
+    private ForgePopulatorEvent(@Nullable GenerateMinable.EventType oreType, @Nullable Populate.EventType populateType,
+            @Nullable Decorate.EventType decorateType) {
+        this.oreType = oreType;
+        this.populateType = populateType;
+        this.decorateType = decorateType;
+    }
+
+    /**
+     * Posts the event for the given populator, if any mod listens to it.
+     *
+     * @return False if the populator should be skipped
+     */
+    boolean post(Populator populator, IChunkGenerator chunkProvider, World world, Random rand, int chunkX, int chunkZ, BlockPos blockMin,
+            List<String> flags) {
+        if (this.oreType != null) {
+            return !EventListenerMask.hasForgeListeners(GenerateMinable.class, MinecraftForge.ORE_GEN_BUS)
+                    || TerrainGen.generateOre(world, rand, (WorldGenerator) populator, blockMin, this.oreType);
+        }
+        if (this.populateType != null) {
+            return !EventListenerMask.hasForgeListeners(Populate.class, MinecraftForge.TERRAIN_GEN_BUS)
+                    || TerrainGen.populate(chunkProvider, world, rand, chunkX, chunkZ, flags.contains(WorldGenConstants.VILLAGE_FLAG),
+                            this.populateType);
+        }
+        if (this.decorateType != null) {
+            return !EventListenerMask.hasForgeListeners(Decorate.class, MinecraftForge.TERRAIN_GEN_BUS)
+                    || TerrainGen.decorate(world, rand, blockMin, this.decorateType);
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the event the given populator is run through.
+     *
+     * @param populator The populator
+     * @param nether Whether the populator runs in a world with the nether generator
+     * @return The event
+     */
+    static ForgePopulatorEvent of(Populator populator, boolean nether) {
+        if (populator instanceof Ore && populator instanceof WorldGenerator) {
+            final GenerateMinable.EventType oreType = getOreEventType((Ore) populator);
+            return oreType == null ? NONE : new ForgePopulatorEvent(oreType, null, null);
+        }
+        final Populate.EventType populateType = getPopulateEventType(populator, nether);
+        if (populateType != null) {
+            return new ForgePopulatorEvent(null, populateType, null);
+        }
+        final Decorate.EventType decorateType = getDecorateEventType(populator, nether);
+        if (decorateType != null) {
+            return new ForgePopulatorEvent(null, null, decorateType);
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets whether the event of the given populator depends on settings of
+     * the populator which may change, such as the block it places.
+     *
+     * @param populator The populator
+     * @return True if the event has to be resolved every time
+     */
+    static boolean isMutable(Populator populator) {
+        return populator instanceof Ore || populator instanceof Lake || populator instanceof RandomBlock || populator instanceof SeaFloor;
+    }
+
+    @Nullable
+    private static GenerateMinable.EventType getOreEventType(Ore populator) {
+        BlockType type = populator.getOreBlock().getType();
+        if (type.equals(BlockTypes.DIRT)) {
+            return GenerateMinable.EventType.DIRT;
+        } else if (type.equals(BlockTypes.GRAVEL)) {
+            return GenerateMinable.EventType.GRAVEL;
+        } else if (type.equals(BlockTypes.STONE)) {
+            BlockState state = populator.getOreBlock();
+            Optional<StoneType> stype;
+            if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
+                StoneType stoneType = stype.get();
+                if (stoneType.equals(StoneTypes.DIORITE)) {
+                    return GenerateMinable.EventType.DIORITE;
+                } else if (stoneType.equals(StoneTypes.ANDESITE)) {
+                    return GenerateMinable.EventType.ANDESITE;
+                } else if (stoneType.equals(StoneTypes.GRANITE)) {
+                    return GenerateMinable.EventType.GRANITE;
+                }
+            }
+        } else if (type.equals(BlockTypes.COAL_ORE)) {
+            return GenerateMinable.EventType.COAL;
+        } else if (type.equals(BlockTypes.IRON_ORE)) {
+            return GenerateMinable.EventType.IRON;
+        } else if (type.equals(BlockTypes.GOLD_ORE)) {
+            return GenerateMinable.EventType.GOLD;
+        } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
+            return GenerateMinable.EventType.REDSTONE;
+        } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
+            return GenerateMinable.EventType.DIAMOND;
+        } else if (type.equals(BlockTypes.LAPIS_ORE)) {
+            return GenerateMinable.EventType.LAPIS;
+        } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
+            return GenerateMinable.EventType.QUARTZ;
+        } else if (type.equals(BlockTypes.EMERALD_ORE)) {
+            return GenerateMinable.EventType.EMERALD;
+        } else if (type.equals(BlockTypes.MONSTER_EGG)) {
+            return GenerateMinable.EventType.SILVERFISH;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Populate.EventType getPopulateEventType(Populator populator, boolean nether) {
+        if (populator instanceof Lake) {
+            if (((Lake) populator).getLiquidType().getType().equals(BlockTypes.LAVA)
+                    || ((Lake) populator).getLiquidType().getType().equals(BlockTypes.FLOWING_LAVA)) {
+                return Populate.EventType.LAVA;
+            }
+            return Populate.EventType.LAKE;
+        }
+        if (populator instanceof Dungeon) {
+            return Populate.EventType.DUNGEON;
+        }
+        if (populator instanceof AnimalPopulator) {
+            return Populate.EventType.ANIMALS;
+        }
+        if (populator instanceof SnowPopulator) {
+            return Populate.EventType.ICE;
+        }
+        if (populator instanceof Glowstone) {
+            return Populate.EventType.GLOWSTONE;
+        }
+        if (populator instanceof RandomBlock) {
+            BlockType type = ((RandomBlock) populator).getBlock().getType();
+            if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
+                if (nether) {
+                    if (((RandomBlock) populator).getPlacementTarget().equals(WorldGenConstants.HELL_LAVA_ENCLOSED)) {
+                        return Populate.EventType.NETHER_LAVA2;
+                    }
+                    return Populate.EventType.NETHER_LAVA;
+                }
+                return null;
+            } else if (type.equals(BlockTypes.FIRE)) {
+                if (nether) {
+                    return Populate.EventType.FIRE;
+                }
+                return null;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Decorate.EventType getDecorateEventType(Populator populator, boolean nether) {
+        if (populator instanceof SeaFloor) {
+            BlockType type = ((SeaFloor) populator).getBlock().getType();
+            if (type.equals(BlockTypes.SAND)) {
+                return Decorate.EventType.SAND;
+            }
+            if (type.equals(BlockTypes.CLAY)) {
+                return Decorate.EventType.CLAY;
+            }
+            if (type.equals(BlockTypes.GRAVEL)) {
+                return Decorate.EventType.SAND_PASS2;
+            }
+        }
+        if (populator instanceof Forest) {
+            return Decorate.EventType.TREE;
+        }
+        if (populator instanceof BigMushroom) {
+            return Decorate.EventType.BIG_SHROOM;
+        }
+        if (populator instanceof Flower) {
+            return Decorate.EventType.FLOWERS;
+        }
+        if (populator instanceof Shrub) {
+            return Decorate.EventType.TREE;
+        }
+        if (populator instanceof DeadBush) {
+            return Decorate.EventType.DEAD_BUSH;
+        }
+        if (populator instanceof WaterLily) {
+            return Decorate.EventType.LILYPAD;
+        }
+        if (populator instanceof Mushroom) {
+            return Decorate.EventType.SHROOM;
+        }
+        if (populator instanceof Reed) {
+            return Decorate.EventType.REED;
+        }
+        if (populator instanceof Pumpkin) {
+            return Decorate.EventType.PUMPKIN;
+        }
+        if (populator instanceof Cactus) {
+            return Decorate.EventType.CACTUS;
+        }
+        if (populator instanceof RandomBlock) {
+            BlockType type = ((RandomBlock) populator).getBlock().getType();
+            if (type.equals(BlockTypes.FLOWING_WATER) || type.equals(BlockTypes.WATER)) {
+                return Decorate.EventType.LAKE_WATER;
+            } else if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
+                if (nether) {
+                    return null;
+                }
+                return Decorate.EventType.LAKE_LAVA;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+}
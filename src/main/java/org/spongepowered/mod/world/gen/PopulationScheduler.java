@@ -0,0 +1,302 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge.ChunkPopulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Populates the chunks of a generator in parallel during bursts, like
+ * pre-generating a world or preparing the spawn of a new one.
+ *
+ * <p>While the world has no players, chunks due to be populated are deferred
+ * until the world ticks again or enough of them are pending. Populating a
+ * chunk writes blocks into the 2x2 chunks starting at it, and notifies the
+ * neighbours of those. So the pending chunks are coloured by their position
+ * modulo {@link #SPACING}, and the chunks of one colour are populated
+ * together. A chunk only goes to a worker if all its populators are declared
+ * thread safe and the chunks around it are loaded, any other chunk is
+ * populated on the main thread as before. Events are always posted on the
+ * main thread, before the workers start and after they are done.</p>
+ *
+ * <p>Every populator run by a worker enters its phase on a cause tracker of
+ * its own, which the main thread completes once the colour is done.
+ * Relighting, scheduling block updates and adding tile entities to the world
+ * touch state shared by the whole world, so workers leave them to the main
+ * thread as well, see {@link #runOnMainThread}.</p>
+ *
+ * <p>Mod world generators of a deferred chunk run before its populators.</p>
+ */
+public final class PopulationScheduler {
+
+    // Chunks this far apart never write into or notify the same chunk
+    private static final int SPACING = 4;
+    // Chunks deferred per world, all of them are populated once reached
+    private static final int MAX_PENDING_POPULATION = 256;
+    private static final ThreadLocal<PopulationTask> CURRENT_TASK = new ThreadLocal<>();
+    @Nullable private static ExecutorService executor;
+    // Only set while workers populate, so the world hooks don't look up the task of every thread
+    private static volatile boolean populating;
+
+    private final SpongeChunkGeneratorForge generator;
+    private final WorldServer world;
+    private final LongLinkedOpenHashSet pending = new LongLinkedOpenHashSet();
+    private boolean flushing;
+
+    PopulationScheduler(SpongeChunkGeneratorForge generator, WorldServer world) {
+        this.generator = generator;
+        this.world = world;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge Chunk Populator #%d")
+                            .setDaemon(true)
+                            .build());
+        }
+        return executor;
+    }
+
+    /**
+     * Gets whether the current thread populates a chunk for the scheduler,
+     * so changes to state shared by its world have to be passed to
+     * {@link #runOnMainThread}.
+     *
+     * @return True if the current thread is a population worker
+     */
+    public static boolean isPopulationWorker() {
+        return populating && CURRENT_TASK.get() != null;
+    }
+
+    /**
+     * Runs the given action on the main thread once the chunk populated by
+     * the current worker is done.
+     *
+     * @param action The action
+     */
+    public static void runOnMainThread(Runnable action) {
+        CURRENT_TASK.get().deferred.add(action);
+    }
+
+    /**
+     * Gets the cause tracker of the populator the current thread runs.
+     *
+     * @return The cause tracker, or null if this isn't a population worker
+     */
+    @Nullable
+    public static CauseTracker getCauseTracker() {
+        if (!populating) {
+            return null;
+        }
+        final PopulationTask task = CURRENT_TASK.get();
+        return task == null ? null : task.causeTracker;
+    }
+
+    /**
+     * Defers populating the given chunk, if the world is in a burst.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @return True if the chunk was deferred
+     */
+    boolean defer(int chunkX, int chunkZ) {
+        // Chunks becoming due while flushing are populated right away, as outside of bursts
+        if (this.flushing || !this.world.playerEntities.isEmpty()) {
+            return false;
+        }
+        this.pending.add(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+        return true;
+    }
+
+    boolean isEmpty() {
+        return this.pending.isEmpty();
+    }
+
+    boolean isFull() {
+        return this.pending.size() >= MAX_PENDING_POPULATION;
+    }
+
+    /**
+     * Populates all deferred chunks, one colour after another.
+     */
+    void flush() {
+        if (this.flushing) {
+            return;
+        }
+        this.flushing = true;
+        try {
+            final LongArrayList[] colours = new LongArrayList[SPACING * SPACING];
+            for (LongIterator iterator = this.pending.iterator(); iterator.hasNext(); ) {
+                final long key = iterator.nextLong();
+                final int colour = Math.floorMod((int) key, SPACING) * SPACING + Math.floorMod((int) (key >>> 32), SPACING);
+                if (colours[colour] == null) {
+                    colours[colour] = new LongArrayList();
+                }
+                colours[colour].add(key);
+            }
+            this.pending.clear();
+            for (LongArrayList colour : colours) {
+                if (colour != null) {
+                    populate(colour);
+                }
+            }
+        } finally {
+            this.flushing = false;
+        }
+    }
+
+    private void populate(LongArrayList chunks) {
+        final List<PopulationTask> tasks = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            final long key = chunks.getLong(i);
+            final int chunkX = (int) key;
+            final int chunkZ = (int) (key >>> 32);
+            if (!this.world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+                continue;
+            }
+            // Seeded for the chunk just like the random of the generator
+            final ChunkPopulation population = this.generator.startPopulation(chunkX, chunkZ, new Random());
+            if (this.generator.canPopulateInParallel(population) && isSurroundingLoaded(chunkX, chunkZ)) {
+                tasks.add(new PopulationTask(population));
+            } else {
+                this.generator.populateSerially(population);
+            }
+        }
+        if (tasks.size() < 2) {
+            for (PopulationTask task : tasks) {
+                this.generator.populateSerially(task.population);
+            }
+            return;
+        }
+
+        for (PopulationTask task : tasks) {
+            task.selectPopulators();
+        }
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        populating = true;
+        try {
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = CompletableFuture.runAsync(tasks.get(i), getExecutor());
+            }
+            for (int i = 0; i < futures.length; i++) {
+                try {
+                    futures[i].join();
+                } catch (CompletionException e) {
+                    final ChunkPopulation population = tasks.get(i).population;
+                    SpongeImpl.getLogger().error("Couldn't populate chunk {}, {} on a worker thread",
+                            population.chunkX, population.chunkZ, e.getCause());
+                }
+            }
+        } finally {
+            populating = false;
+        }
+        for (PopulationTask task : tasks) {
+            task.finish();
+        }
+    }
+
+    // Workers may read and notify, but never load the chunks around the 2x2 chunks they populate
+    private boolean isSurroundingLoaded(int chunkX, int chunkZ) {
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        for (int x = chunkX - 1; x <= chunkX + 2; x++) {
+            for (int z = chunkZ - 1; z <= chunkZ + 2; z++) {
+                if (!chunkProvider.chunkExists(x, z)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private final class PopulationTask implements Runnable {
+
+        final ChunkPopulation population;
+        final List<Runnable> deferred = new ArrayList<>();
+        private final IntArrayList populators = new IntArrayList();
+        private final List<CauseTracker> causeTrackers = new ArrayList<>();
+        @Nullable CauseTracker causeTracker;
+
+        PopulationTask(ChunkPopulation population) {
+            this.population = population;
+        }
+
+        // Posts the events of the populators on the main thread, before any of them runs
+        void selectPopulators() {
+            for (int index = 0; index < this.population.populators.size(); index++) {
+                if (PopulationScheduler.this.generator.canRunPopulator(this.population, index)) {
+                    this.populators.add(index);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            CURRENT_TASK.set(this);
+            try {
+                for (int i = 0; i < this.populators.size(); i++) {
+                    if (CauseTracker.ENABLED) {
+                        this.causeTracker = new CauseTracker(PopulationScheduler.this.world);
+                        this.causeTrackers.add(this.causeTracker);
+                    }
+                    PopulationScheduler.this.generator.runPopulator(this.population, this.populators.getInt(i), true);
+                }
+            } finally {
+                CURRENT_TASK.remove();
+            }
+        }
+
+        void finish() {
+            for (Runnable action : this.deferred) {
+                action.run();
+            }
+            // Spawns the entities captured by the populators
+            for (CauseTracker causeTracker : this.causeTrackers) {
+                causeTracker.completePhase();
+            }
+            PopulationScheduler.this.generator.finishPopulation(this.population);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import co.aikar.timings.SpongeTimingsFactory;
+import co.aikar.timings.Timing;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.world.biome.BiomeGenerationSettings;
+import org.spongepowered.api.world.gen.Populator;
+import org.spongepowered.common.world.gen.populators.SnowPopulator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The populators to run in a biome, in order, along with what is needed to
+ * run each of them. Built once per biome of a generator, and built again
+ * once the populators of the generator or the biome change.
+ */
+final class PopulatorPlan {
+
+    private final Populator[] generatorPopulators;
+    private final BiomeGenerationSettings settings;
+    private final Populator[] biomePopulators;
+
+    private final ImmutableList<Populator> populators;
+    // Null for populators whose event depends on their settings, which may change
+    private final ForgePopulatorEvent[] forgeEvents;
+    private final Timing[] timings;
+    private final boolean nether;
+
+    PopulatorPlan(List<Populator> generatorPopulators, BiomeGenerationSettings settings, boolean nether) {
+        this.generatorPopulators = generatorPopulators.toArray(new Populator[generatorPopulators.size()]);
+        this.settings = settings;
+        final List<Populator> biomePopulators = settings.getPopulators();
+        this.biomePopulators = biomePopulators.toArray(new Populator[biomePopulators.size()]);
+
+        // The snow populator runs last, after the populators of the biome
+        final ImmutableList.Builder<Populator> builder = ImmutableList.builder();
+        Populator snowPopulator = null;
+        for (Populator populator : this.generatorPopulators) {
+            if (snowPopulator == null && populator instanceof SnowPopulator) {
+                snowPopulator = populator;
+            } else {
+                builder.add(populator);
+            }
+        }
+        builder.add(this.biomePopulators);
+        if (snowPopulator != null) {
+            builder.add(snowPopulator);
+        }
+        this.populators = builder.build();
+        this.forgeEvents = new ForgePopulatorEvent[this.populators.size()];
+        for (int i = 0; i < this.forgeEvents.length; i++) {
+            final Populator populator = this.populators.get(i);
+            if (!ForgePopulatorEvent.isMutable(populator)) {
+                this.forgeEvents[i] = ForgePopulatorEvent.of(populator, nether);
+            }
+        }
+        this.timings = new Timing[this.populators.size()];
+        this.nether = nether;
+    }
+
+    /**
+     * Gets whether this plan is still up to date with the given populators.
+     *
+     * @param generatorPopulators The populators of the generator
+     * @param settings The settings of the biome
+     * @return True if the populators are the same as when building the plan
+     */
+    boolean isValid(List<Populator> generatorPopulators, BiomeGenerationSettings settings) {
+        return settings == this.settings && matches(this.generatorPopulators, generatorPopulators)
+                && matches(this.biomePopulators, settings.getPopulators());
+    }
+
+    private static boolean matches(Populator[] snapshot, List<Populator> populators) {
+        if (snapshot.length != populators.size()) {
+            return false;
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            if (snapshot[i] != populators.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    ImmutableList<Populator> getPopulators() {
+        return this.populators;
+    }
+
+    /**
+     * Gets the index of the given populator in this plan, if the populators
+     * to run are the same as planned up to it.
+     *
+     * @param populators The populators to run
+     * @param index The index of the populator to run
+     * @return The index, or -1 if the populator isn't planned there
+     */
+    int indexOf(List<Populator> populators, int index) {
+        return index < this.timings.length && populators.get(index) == this.populators.get(index) ? index : -1;
+    }
+
+    ForgePopulatorEvent getForgeEvent(int index) {
+        final ForgePopulatorEvent forgeEvent = this.forgeEvents[index];
+        return forgeEvent != null ? forgeEvent : ForgePopulatorEvent.of(this.populators.get(index), this.nether);
+    }
+
+    /**
+     * Gets the timing of the populator at the given index.
+     *
+     * @param index The index of the populator
+     * @param populatorTimings The timings of the generator by populator type id
+     * @return The timing
+     */
+    Timing getTiming(int index, Map<String, Timing> populatorTimings) {
+        Timing timing = this.timings[index];
+        if (timing == null) {
+            timing = this.timings[index] = getTiming(this.populators.get(index), populatorTimings);
+        }
+        return timing;
+    }
+
+    static Timing getTiming(Populator populator, Map<String, Timing> populatorTimings) {
+        return populatorTimings.computeIfAbsent(populator.getType().getId(), SpongeTimingsFactory::ofSafe);
+    }
+}
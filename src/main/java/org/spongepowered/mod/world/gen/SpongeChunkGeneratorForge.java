@@ -29,31 +29,23 @@
 import co.aikar.timings.Timings;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Objects;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkGenerator;
-import net.minecraft.world.gen.feature.WorldGenerator;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.terraingen.ChunkGeneratorEvent;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent;
-import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
 import net.minecraftforge.event.terraingen.OreGenEvent;
-import net.minecraftforge.event.terraingen.OreGenEvent.GenerateMinable;
 import net.minecraftforge.event.terraingen.PopulateChunkEvent;
-import net.minecraftforge.event.terraingen.PopulateChunkEvent.Populate;
-import net.minecraftforge.event.terraingen.TerrainGen;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.block.BlockState;
-import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.block.BlockTypes;
-import org.spongepowered.api.data.key.Keys;
-import org.spongepowered.api.data.type.StoneType;
-import org.spongepowered.api.data.type.StoneTypes;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
@@ -67,22 +59,6 @@
 import org.spongepowered.api.world.gen.GenerationPopulator;
 import org.spongepowered.api.world.gen.Populator;
 import org.spongepowered.api.world.gen.PopulatorType;
-import org.spongepowered.api.world.gen.populator.BigMushroom;
-import org.spongepowered.api.world.gen.populator.Cactus;
-import org.spongepowered.api.world.gen.populator.DeadBush;
-import org.spongepowered.api.world.gen.populator.Dungeon;
-import org.spongepowered.api.world.gen.populator.Flower;
-import org.spongepowered.api.world.gen.populator.Forest;
-import org.spongepowered.api.world.gen.populator.Glowstone;
-import org.spongepowered.api.world.gen.populator.Lake;
-import org.spongepowered.api.world.gen.populator.Mushroom;
-import org.spongepowered.api.world.gen.populator.Ore;
-import org.spongepowered.api.world.gen.populator.Pumpkin;
-import org.spongepowered.api.world.gen.populator.RandomBlock;
-import org.spongepowered.api.world.gen.populator.Reed;
-import org.spongepowered.api.world.gen.populator.SeaFloor;
-import org.spongepowered.api.world.gen.populator.Shrub;
-import org.spongepowered.api.world.gen.populator.WaterLily;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -91,20 +67,18 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IFlaggedPopulator;
 import org.spongepowered.common.interfaces.world.gen.IGenerationPopulator;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.extent.SoftBufferExtentViewDownsize;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
-import org.spongepowered.common.world.gen.WorldGenConstants;
-import org.spongepowered.common.world.gen.populators.AnimalPopulator;
-import org.spongepowered.common.world.gen.populators.SnowPopulator;
+import org.spongepowered.mod.event.EventListenerMask;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Similar class to {@link SpongeChunkGenerator}, but instead gets its blocks
@@ -112,6 +86,33 @@
  */
 public final class SpongeChunkGeneratorForge extends SpongeChunkGenerator {
 
+    // Generates the terrain of chunks which will be needed soon on a worker pool, see #queueTerrain
+    private static final boolean ASYNC_TERRAIN = Boolean.getBoolean("sponge.gen.asyncTerrain");
+    // Generators, biome generators and generation populators declared safe to run on another thread, by class name
+    private static final Set<String> ASYNC_TERRAIN_THREAD_SAFE = ImmutableSet.copyOf(Splitter.on(',').trimResults().omitEmptyStrings()
+            .split(System.getProperty("sponge.gen.asyncTerrain.threadSafe", "")));
+
+    // Populates chunks deferred during bursts in parallel, see PopulationScheduler
+    private static final boolean PARALLEL_POPULATION = Boolean.getBoolean("sponge.gen.parallelPopulation");
+    // Populators declared safe to run on another thread, by class name
+    private static final Set<String> PARALLEL_POPULATION_THREAD_SAFE = ImmutableSet.copyOf(Splitter.on(',').trimResults().omitEmptyStrings()
+            .split(System.getProperty("sponge.gen.parallelPopulation.threadSafe", "")));
+
+    // Also holds the lock taken while generating or populating, the generator state is shared with the terrain workers
+    private final TerrainGenerationQueue terrainQueue = new TerrainGenerationQueue(this);
+    // Whether the terrain of this generator may be generated ahead, checked once per tick
+    private boolean asyncTerrain;
+    private long asyncTerrainCheckTime = -1;
+    // Chunks deferred to be populated in parallel
+    private final PopulationScheduler populationScheduler;
+    // Whether chunks of this generator may be populated in parallel, checked once per tick
+    private boolean parallelPopulation;
+    private long parallelPopulationCheckTime = -1;
+
+    // Biomes the terrain of chunks was generated with, until they are populated
+    private final BiomeBufferCache biomeCache = new BiomeBufferCache();
+    private final Map<BiomeType, PopulatorPlan> populatorPlans = new IdentityHashMap<>();
+
     public SpongeChunkGeneratorForge(World world, GenerationPopulator generationPopulator, BiomeGenerator biomeGenerator) {
         super(world, generationPopulator, biomeGenerator);
 
@@ -128,10 +129,91 @@ public SpongeChunkGeneratorForge(World world, GenerationPopulator generationPopu
         }
 
         this.chunkGeneratorTiming = SpongeTimingsFactory.ofSafe(chunkGeneratorName, ((IMixinWorldServer) world).getTimingsHandler().chunkPopulate);
+        this.populationScheduler = new PopulationScheduler(this, (WorldServer) world);
+    }
+
+    @Override
+    public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
+        super.setBiomeGenerator(biomeGenerator);
+        // Biomes cached from the previous generator are dropped along with it, may be called while constructing
+        if (this.biomeCache != null) {
+            this.biomeCache.clear();
+        }
+    }
+
+    /**
+     * Starts generating the terrain of the given chunk on a worker thread,
+     * if enabled for this generator. The chunk will be taken from there once
+     * {@link #provideChunk} is called for it, only leaving population to the
+     * main thread.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     */
+    public void queueTerrain(int chunkX, int chunkZ) {
+        if (canGenerateTerrainAsync()) {
+            this.terrainQueue.queue(chunkX, chunkZ);
+        }
+    }
+
+    // Called by the terrain workers with the generator locked
+    net.minecraft.world.chunk.Chunk generateTerrain(int chunkX, int chunkZ) {
+        return super.provideChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * Gets whether everything generating the terrain of this generator is
+     * confined to the generator, so it may run on a worker thread.
+     *
+     * <p>Vanilla code never is, the biome layers share the static
+     * {@code IntCache}, the biome providers and structure generators cache
+     * their results for the main thread and biomes are shared by all worlds.
+     * Sponge replaces the biome blocks through vanilla biomes unless the
+     * generator wraps a chunk generator, so only wrapped chunk generators are
+     * eligible. The chunk generator, the biome generator and all generation
+     * populators have to be declared thread safe through the
+     * {@code sponge.gen.asyncTerrain.threadSafe} system property.</p>
+     */
+    private boolean canGenerateTerrainAsync() {
+        if (!ASYNC_TERRAIN || !(this.baseGenerator instanceof SpongeGenerationPopulator)) {
+            return false;
+        }
+        final long time = this.world.getTotalWorldTime();
+        if (time != this.asyncTerrainCheckTime) {
+            this.asyncTerrainCheckTime = time;
+            this.asyncTerrain = isThreadSafe(((SpongeGenerationPopulator) this.baseGenerator).getHandle(this.world), ASYNC_TERRAIN_THREAD_SAFE)
+                    && isThreadSafe(this.biomeGenerator, ASYNC_TERRAIN_THREAD_SAFE)
+                    && getGenerationPopulators().stream().allMatch(populator -> isThreadSafe(populator, ASYNC_TERRAIN_THREAD_SAFE))
+                    && Sponge.getRegistry().getAllOf(BiomeType.class).stream()
+                            .allMatch(biome -> getBiomeSettings(biome).getGenerationPopulators().stream()
+                                    .allMatch(populator -> isThreadSafe(populator, ASYNC_TERRAIN_THREAD_SAFE)));
+        }
+        return this.asyncTerrain;
+    }
+
+    private static boolean isThreadSafe(Object generator, Set<String> threadSafe) {
+        final String className = generator.getClass().getName();
+        return !className.startsWith("net.minecraft.") && threadSafe.contains(className);
+    }
+
+    @Override
+    public net.minecraft.world.chunk.Chunk provideChunk(int chunkX, int chunkZ) {
+        final net.minecraft.world.chunk.Chunk terrain = this.terrainQueue.take(chunkX, chunkZ);
+        if (terrain != null) {
+            return terrain;
+        }
+        this.terrainQueue.lock();
+        try {
+            return super.provideChunk(chunkX, chunkZ);
+        } finally {
+            this.terrainQueue.unlock();
+        }
     }
 
     @Override
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes) {
+        // The biomes provideChunk generated the terrain with, keep them for populating the chunk
+        this.biomeCache.put(x, z, biomes);
         ChunkGeneratorEvent.ReplaceBiomeBlocks event = new ChunkGeneratorEvent.ReplaceBiomeBlocks(this, x, z, chunk, world);
         MinecraftForge.EVENT_BUS.post(event);
         if (event.getResult() == Result.DENY)
@@ -139,22 +221,111 @@ public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrim
         super.replaceBiomeBlocks(world, rand, x, z, chunk, biomes);
     }
 
+    /**
+     * Populates the given chunk, or defers it to the
+     * {@link PopulationScheduler} of this generator during bursts.
+     */
     @Override
     public void populate(int chunkX, int chunkZ) {
-        IMixinWorldServer worldServer = (IMixinWorldServer) this.world;
-        final CauseTracker causeTracker = worldServer.getCauseTracker();
+        if (canPopulateInParallel() && this.populationScheduler.defer(chunkX, chunkZ)) {
+            ((IMixinWorldServer) this.world).getTimingsHandler().chunkPopulate.stopTimingIfSync();
+            if (this.populationScheduler.isFull()) {
+                flushPopulation();
+            }
+            return;
+        }
+        this.terrainQueue.lock();
+        try {
+            populateChunk(chunkX, chunkZ);
+        } finally {
+            this.terrainQueue.unlock();
+        }
+    }
+
+    /**
+     * Populates all chunks deferred to the {@link PopulationScheduler} of
+     * this generator.
+     */
+    public void flushPopulation() {
+        if (this.populationScheduler.isEmpty()) {
+            return;
+        }
+        this.terrainQueue.lock();
+        try {
+            this.chunkGeneratorTiming.startTimingIfSync();
+            BlockFalling.fallInstantly = true;
+            this.populationScheduler.flush();
+        } finally {
+            BlockFalling.fallInstantly = false;
+            this.chunkGeneratorTiming.stopTimingIfSync();
+            this.terrainQueue.unlock();
+        }
+    }
+
+    /**
+     * Gets whether chunks of this generator should be deferred to be
+     * populated in parallel. Only populators declared thread safe through the
+     * {@code sponge.gen.parallelPopulation.threadSafe} system property ever
+     * run on a worker thread, so there has to be one at least.
+     */
+    private boolean canPopulateInParallel() {
+        if (!PARALLEL_POPULATION) {
+            return false;
+        }
+        final long time = this.world.getTotalWorldTime();
+        if (time != this.parallelPopulationCheckTime) {
+            this.parallelPopulationCheckTime = time;
+            this.parallelPopulation = this.pop.stream().anyMatch(populator -> isThreadSafe(populator, PARALLEL_POPULATION_THREAD_SAFE))
+                    || Sponge.getRegistry().getAllOf(BiomeType.class).stream()
+                            .anyMatch(biome -> getBiomeSettings(biome).getPopulators().stream()
+                                    .anyMatch(populator -> isThreadSafe(populator, PARALLEL_POPULATION_THREAD_SAFE)));
+        }
+        return this.parallelPopulation;
+    }
+
+    /**
+     * Gets whether all populators of the given population may run on a worker
+     * thread.
+     *
+     * @param population The population
+     * @return True if it may be populated in parallel
+     */
+    boolean canPopulateInParallel(ChunkPopulation population) {
+        return population.populators.stream().allMatch(populator -> isThreadSafe(populator, PARALLEL_POPULATION_THREAD_SAFE));
+    }
+
+    private void populateChunk(int chunkX, int chunkZ) {
         this.chunkGeneratorTiming.startTimingIfSync();
-        Cause populateCause = Cause.of(NamedCause.source(this));
-        this.rand.setSeed(this.world.getSeed());
-        long i1 = this.rand.nextLong() / 2L * 2L + 1L;
-        long j1 = this.rand.nextLong() / 2L * 2L + 1L;
-        this.rand.setSeed(chunkX * i1 + chunkZ * j1 ^ this.world.getSeed());
         BlockFalling.fallInstantly = true;
+        populateSerially(startPopulation(chunkX, chunkZ, this.rand));
+        BlockFalling.fallInstantly = false;
+        this.chunkGeneratorTiming.stopTimingIfSync();
+        ((IMixinWorldServer) this.world).getTimingsHandler().chunkPopulate.stopTimingIfSync();
+    }
+
+    /**
+     * Starts populating the given chunk, posting the pre population events.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @param random The random to seed for the chunk
+     * @return The population
+     */
+    ChunkPopulation startPopulation(int chunkX, int chunkZ, Random random) {
+        Cause populateCause = Cause.of(NamedCause.source(this));
+        random.setSeed(this.world.getSeed());
+        long i1 = random.nextLong() / 2L * 2L + 1L;
+        long j1 = random.nextLong() / 2L * 2L + 1L;
+        random.setSeed(chunkX * i1 + chunkZ * j1 ^ this.world.getSeed());
 
-        // Have to regeneate the biomes so that any virtual biomes can be passed to the populator.
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        // Have to regeneate the biomes so that any virtual biomes can be passed to the populator,
+        // unless they are still cached from generating the terrain
+        ImmutableBiomeVolume biomeBuffer = this.biomeCache.take(chunkX, chunkZ);
+        if (biomeBuffer == null) {
+            this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+            this.biomeGenerator.generateBiomes(this.cachedBiomes);
+            biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        }
 
         BlockPos blockpos = new BlockPos(chunkX * 16, 0, chunkZ * 16);
         BiomeType biome = (BiomeType) this.world.getBiome(blockpos.add(16, 0, 16));
@@ -163,75 +334,124 @@ public void populate(int chunkX, int chunkZ) {
 
         BiomeGenerationSettings settings = getBiomeSettings(biome);
 
-        List<Populator> populators = new ArrayList<>(this.pop);
-
-        Populator snowPopulator = null;
-        Iterator<Populator> itr = populators.iterator();
-        while (itr.hasNext()) {
-            Populator populator = itr.next();
-            if (populator instanceof SnowPopulator) {
-                itr.remove();
-                snowPopulator = populator;
-                break;
-            }
-        }
-
-        populators.addAll(settings.getPopulators());
-        if (snowPopulator != null) {
-            populators.add(snowPopulator);
+        PopulatorPlan plan = this.populatorPlans.get(biome);
+        if (plan == null || !plan.isValid(this.pop, settings)) {
+            plan = new PopulatorPlan(this.pop, settings, isNether());
+            this.populatorPlans.put(biome, plan);
         }
+        // Plugins may change the populators to run through the event
+        List<Populator> populators = new ArrayList<>(plan.getPopulators());
 
         Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(populateCause, populators, chunk));
 
-        MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(this, this.world, this.rand, chunkX, chunkZ, false));
-        MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(this.world, this.rand, blockpos));
-        MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Pre(this.world, this.rand, blockpos));
-        List<String> flags = Lists.newArrayList();
+        if (EventListenerMask.hasForgeListeners(PopulateChunkEvent.Pre.class, MinecraftForge.EVENT_BUS)) {
+            MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(this, this.world, random, chunkX, chunkZ, false));
+        }
+        if (EventListenerMask.hasForgeListeners(DecorateBiomeEvent.Pre.class, MinecraftForge.EVENT_BUS)) {
+            MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(this.world, random, blockpos));
+        }
+        if (EventListenerMask.hasForgeListeners(OreGenEvent.Pre.class, MinecraftForge.ORE_GEN_BUS)) {
+            MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Pre(this.world, random, blockpos));
+        }
         Vector3i min = new Vector3i(chunkX * 16 + 8, 0, chunkZ * 16 + 8);
-        org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
         Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
-        for (Populator populator : populators) {
-            if (!checkForgeEvent(populator, this, chunkX, chunkZ, flags, chunk)) {
-                continue;
-            }
-            final PopulatorType type = populator.getType();
-            if (type == null) {
-                System.err.printf("Found a populator with a null type: %s populator%n", populator);
-            }
-            if (Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(populateCause, populator, chunk))) {
-                continue;
-            }
-            if (CauseTracker.ENABLED) {
-                causeTracker.switchToPhase(GenerationPhase.State.POPULATOR_RUNNING, PhaseContext.start()
-                        .add(NamedCause.of(InternalNamedCauses.WorldGeneration.CAPTURED_POPULATOR, type))
-                        .addEntityCaptures()
-                        .complete());
-            }
-            Timing timing = null;
-            if (Timings.isTimingsEnabled()) {
-                timing = this.populatorTimings.get(populator.getType().getId());
-                if (timing == null) {
-                    timing = SpongeTimingsFactory.ofSafe(populator.getType().getId());
-                    this.populatorTimings.put(populator.getType().getId(), timing);
-                }
-                timing.startTimingIfSync();
-            }
-            if (populator instanceof IFlaggedPopulator) {
-                ((IFlaggedPopulator) populator).populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
-            } else {
-                populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
-            }
-            if (CauseTracker.ENABLED) {
-                causeTracker.completePhase();
-            }
-            if (Timings.isTimingsEnabled()) {
-                timing.stopTimingIfSync();
+        return new ChunkPopulation(chunkX, chunkZ, chunk, random, biomeBuffer, blockpos, plan, populators, volume, populateCause);
+    }
+
+    /**
+     * Runs the populators of the given population one after another and
+     * finishes it.
+     *
+     * @param population The population
+     */
+    void populateSerially(ChunkPopulation population) {
+        for (int index = 0; index < population.populators.size(); index++) {
+            if (canRunPopulator(population, index)) {
+                runPopulator(population, index, false);
             }
         }
+        finishPopulation(population);
+    }
 
-        MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, this.rand, chunkX, chunkZ, false));
+    /**
+     * Posts the events for the given populator of the population.
+     *
+     * @param population The population
+     * @param index The index of the populator
+     * @return False if the populator was cancelled
+     */
+    boolean canRunPopulator(ChunkPopulation population, int index) {
+        final Populator populator = population.populators.get(index);
+        final int planIndex = population.plan.indexOf(population.populators, index);
+        final ForgePopulatorEvent forgeEvent = planIndex == -1 ? ForgePopulatorEvent.of(populator, isNether()) : population.plan.getForgeEvent(planIndex);
+        if (!forgeEvent.post(populator, this, this.world, population.random, population.chunkX, population.chunkZ, population.blockpos,
+                population.flags)) {
+            return false;
+        }
+        if (populator.getType() == null) {
+            System.err.printf("Found a populator with a null type: %s populator%n", populator);
+        }
+        return !Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(population.cause, populator,
+                population.chunk));
+    }
+
+    /**
+     * Runs the given populator of the population.
+     *
+     * <p>On a worker thread, the phase entered is left open on the cause
+     * tracker of the worker, for the main thread to complete it.</p>
+     *
+     * @param population The population
+     * @param index The index of the populator
+     * @param async Whether this runs on a population worker
+     */
+    void runPopulator(ChunkPopulation population, int index, boolean async) {
+        final Populator populator = population.populators.get(index);
+        final CauseTracker causeTracker = ((IMixinWorldServer) this.world).getCauseTracker();
+        if (CauseTracker.ENABLED) {
+            causeTracker.switchToPhase(GenerationPhase.State.POPULATOR_RUNNING, PhaseContext.start()
+                    .add(NamedCause.of(InternalNamedCauses.WorldGeneration.CAPTURED_POPULATOR, populator.getType()))
+                    .addEntityCaptures()
+                    .complete());
+        }
+        Timing timing = null;
+        if (!async && Timings.isTimingsEnabled()) {
+            final int planIndex = population.plan.indexOf(population.populators, index);
+            timing = planIndex == -1 ? PopulatorPlan.getTiming(populator, this.populatorTimings)
+                    : population.plan.getTiming(planIndex, this.populatorTimings);
+            timing.startTimingIfSync();
+        }
+        org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
+        if (populator instanceof IFlaggedPopulator) {
+            ((IFlaggedPopulator) populator).populate(spongeWorld, population.volume, population.random, population.biomes, population.flags);
+        } else {
+            populator.populate(spongeWorld, population.volume, population.random, population.biomes);
+        }
+        if (CauseTracker.ENABLED && !async) {
+            causeTracker.completePhase();
+        }
+        if (timing != null) {
+            timing.stopTimingIfSync();
+        }
+    }
+
+    /**
+     * Finishes the given population, posting the post population events.
+     *
+     * @param population The population
+     */
+    void finishPopulation(ChunkPopulation population) {
+        final int chunkX = population.chunkX;
+        final int chunkZ = population.chunkZ;
+        if (EventListenerMask.hasForgeListeners(OreGenEvent.Post.class, MinecraftForge.ORE_GEN_BUS)) {
+            MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, population.random, population.blockpos));
+        }
+        if (EventListenerMask.hasForgeListeners(DecorateBiomeEvent.Post.class, MinecraftForge.EVENT_BUS)) {
+            MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, population.random, population.blockpos));
+        }
+        if (EventListenerMask.hasForgeListeners(PopulateChunkEvent.Post.class, MinecraftForge.EVENT_BUS)) {
+            MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, population.random, chunkX, chunkZ, false));
+        }
 
         // If we wrapped a custom chunk provider then we should call its
         // populate method so that its particular changes are used.
@@ -250,173 +470,12 @@ public void populate(int chunkX, int chunkZ) {
         }
 
         org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post event =
-                SpongeEventFactory.createPopulateChunkEventPost(populateCause, ImmutableList.copyOf(populators), chunk);
+                SpongeEventFactory.createPopulateChunkEventPost(population.cause, ImmutableList.copyOf(population.populators), population.chunk);
         SpongeImpl.postEvent(event);
-
-        BlockFalling.fallInstantly = false;
-        this.chunkGeneratorTiming.stopTimingIfSync();
-        ((IMixinWorldServer) spongeWorld).getTimingsHandler().chunkPopulate.stopTimingIfSync();
     }
 
-    private boolean checkForgeEvent(Populator populator, IChunkGenerator chunkProvider, int chunkX, int chunkZ, List<String> flags, Chunk chunk) {
-        boolean village_flag = flags.contains(WorldGenConstants.VILLAGE_FLAG);
-        if (populator instanceof Ore && populator instanceof WorldGenerator) {
-            BlockType type = ((Ore) populator).getOreBlock().getType();
-            GenerateMinable.EventType otype = null;
-            if (type.equals(BlockTypes.DIRT)) {
-                otype = GenerateMinable.EventType.DIRT;
-            } else if (type.equals(BlockTypes.GRAVEL)) {
-                otype = GenerateMinable.EventType.GRAVEL;
-            } else if (type.equals(BlockTypes.STONE)) {
-                BlockState state = ((Ore) populator).getOreBlock();
-                Optional<StoneType> stype;
-                if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
-                    StoneType stoneType = stype.get();
-                    if (stoneType.equals(StoneTypes.DIORITE)) {
-                        otype = GenerateMinable.EventType.DIORITE;
-                    } else if (stoneType.equals(StoneTypes.ANDESITE)) {
-                        otype = GenerateMinable.EventType.ANDESITE;
-                    } else if (stoneType.equals(StoneTypes.GRANITE)) {
-                        otype = GenerateMinable.EventType.GRANITE;
-                    } else {
-                        return true;
-                    }
-                }
-            } else if (type.equals(BlockTypes.COAL_ORE)) {
-                otype = GenerateMinable.EventType.COAL;
-            } else if (type.equals(BlockTypes.IRON_ORE)) {
-                otype = GenerateMinable.EventType.IRON;
-            } else if (type.equals(BlockTypes.GOLD_ORE)) {
-                otype = GenerateMinable.EventType.GOLD;
-            } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
-                otype = GenerateMinable.EventType.REDSTONE;
-            } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
-                otype = GenerateMinable.EventType.DIAMOND;
-            } else if (type.equals(BlockTypes.LAPIS_ORE)) {
-                otype = GenerateMinable.EventType.LAPIS;
-            } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
-                otype = GenerateMinable.EventType.QUARTZ;
-            } else if(type.equals(BlockTypes.EMERALD_ORE)) {
-                otype = GenerateMinable.EventType.EMERALD;
-            } else if(type.equals(BlockTypes.MONSTER_EGG)) {
-                otype = GenerateMinable.EventType.SILVERFISH;
-            }
-            if (otype != null) {
-                return TerrainGen.generateOre((net.minecraft.world.World) chunk.getWorld(), this.rand, (WorldGenerator) populator,
-                        VecHelper.toBlockPos(chunk.getBlockMin()), otype);
-            }
-            return true;
-        }
-        Populate.EventType etype = getForgeEventTypeForPopulator(populator, chunk);
-        if (etype != null) {
-            return TerrainGen.populate(chunkProvider, (net.minecraft.world.World) chunk.getWorld(), this.rand, chunkX, chunkZ, village_flag, etype);
-        }
-        Decorate.EventType detype = getForgeDecorateEventTypeForPopulator(populator, chunk);
-        if (detype != null) {
-            return TerrainGen.decorate((net.minecraft.world.World) chunk.getWorld(), this.rand, VecHelper.toBlockPos(chunk.getBlockMin()), detype);
-        }
-        return true;
-    }
-
-    private Populate.EventType getForgeEventTypeForPopulator(Populator populator, Chunk chunk) {
-        if (populator instanceof Lake) {
-            if (((Lake) populator).getLiquidType().getType().equals(BlockTypes.LAVA)
-                    || ((Lake) populator).getLiquidType().getType().equals(BlockTypes.FLOWING_LAVA)) {
-                return Populate.EventType.LAVA;
-            }
-            return Populate.EventType.LAKE;
-        }
-        if (populator instanceof Dungeon) {
-            return Populate.EventType.DUNGEON;
-        }
-        if (populator instanceof AnimalPopulator) {
-            return Populate.EventType.ANIMALS;
-        }
-        if (populator instanceof SnowPopulator) {
-            return Populate.EventType.ICE;
-        }
-        if (populator instanceof Glowstone) {
-            return Populate.EventType.GLOWSTONE;
-        }
-        if (populator instanceof RandomBlock) {
-            BlockType type = ((RandomBlock) populator).getBlock().getType();
-            if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
-                    if (((RandomBlock) populator).getPlacementTarget().equals(WorldGenConstants.HELL_LAVA_ENCLOSED)) {
-                        return Populate.EventType.NETHER_LAVA2;
-                    }
-                    return Populate.EventType.NETHER_LAVA;
-                }
-                return null;
-            } else if (type.equals(BlockTypes.FIRE)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
-                    return Populate.EventType.FIRE;
-                }
-                return null;
-            } else {
-                return null;
-            }
-        }
-        return null;
-    }
-
-    private Decorate.EventType getForgeDecorateEventTypeForPopulator(Populator populator, Chunk chunk) {
-        if (populator instanceof SeaFloor) {
-            BlockType type = ((SeaFloor) populator).getBlock().getType();
-            if (type.equals(BlockTypes.SAND)) {
-                return Decorate.EventType.SAND;
-            }
-            if (type.equals(BlockTypes.CLAY)) {
-                return Decorate.EventType.CLAY;
-            }
-            if (type.equals(BlockTypes.GRAVEL)) {
-                return Decorate.EventType.SAND_PASS2;
-            }
-        }
-        if (populator instanceof Forest) {
-            return Decorate.EventType.TREE;
-        }
-        if (populator instanceof BigMushroom) {
-            return Decorate.EventType.BIG_SHROOM;
-        }
-        if (populator instanceof Flower) {
-            return Decorate.EventType.FLOWERS;
-        }
-        if (populator instanceof Shrub) {
-            return Decorate.EventType.TREE;
-        }
-        if (populator instanceof DeadBush) {
-            return Decorate.EventType.DEAD_BUSH;
-        }
-        if (populator instanceof WaterLily) {
-            return Decorate.EventType.LILYPAD;
-        }
-        if (populator instanceof Mushroom) {
-            return Decorate.EventType.SHROOM;
-        }
-        if (populator instanceof Reed) {
-            return Decorate.EventType.REED;
-        }
-        if (populator instanceof Pumpkin) {
-            return Decorate.EventType.PUMPKIN;
-        }
-        if (populator instanceof Cactus) {
-            return Decorate.EventType.CACTUS;
-        }
-        if (populator instanceof RandomBlock) {
-            BlockType type = ((RandomBlock) populator).getBlock().getType();
-            if (type.equals(BlockTypes.FLOWING_WATER) || type.equals(BlockTypes.WATER)) {
-                return Decorate.EventType.LAKE_WATER;
-            } else if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
-                    return null;
-                }
-                return Decorate.EventType.LAKE_LAVA;
-            } else {
-                return null;
-            }
-        }
-        return null;
+    private boolean isNether() {
+        return ((org.spongepowered.api.world.World) this.world).getProperties().getGeneratorType().equals(GeneratorTypes.NETHER);
     }
 
     @Override
@@ -425,4 +484,36 @@ public String toString() {
                 .add("World", this.world)
                 .toString();
     }
+
+    /**
+     * The state of populating a single chunk, confined to the chunk.
+     */
+    static final class ChunkPopulation {
+
+        final int chunkX;
+        final int chunkZ;
+        final Chunk chunk;
+        final Random random;
+        final ImmutableBiomeVolume biomes;
+        final BlockPos blockpos;
+        final PopulatorPlan plan;
+        final List<Populator> populators;
+        final List<String> flags = Lists.newArrayList();
+        final Extent volume;
+        final Cause cause;
+
+        ChunkPopulation(int chunkX, int chunkZ, Chunk chunk, Random random, ImmutableBiomeVolume biomes, BlockPos blockpos,
+                PopulatorPlan plan, List<Populator> populators, Extent volume, Cause cause) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.chunk = chunk;
+            this.random = random;
+            this.biomes = biomes;
+            this.blockpos = blockpos;
+            this.plan = plan;
+            this.populators = populators;
+            this.volume = volume;
+            this.cause = cause;
+        }
+    }
 }
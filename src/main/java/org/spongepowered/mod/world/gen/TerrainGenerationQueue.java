@@ -0,0 +1,228 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates the terrain of chunks of a generator ahead of time on a worker
+ * pool, while the main thread is busy with anything but the generator.
+ *
+ * <p>The terrain stage of {@link SpongeChunkGeneratorForge} can't be given
+ * per task state, it seeds the shared random and fills the shared biome
+ * buffer of the generator, and the wrapped chunk generator hands its chunk
+ * over through a field. So the generator is guarded by a lock, which the
+ * main thread takes for generating and populating. Workers only ever try to
+ * take it, and stop generating ahead once the main thread waits for it. The
+ * main thread waits for the chunk a worker is generating at most.</p>
+ *
+ * <p>The chunks of a generator are generated one after another by a single
+ * worker at a time, the pool is shared by the generators of all worlds.</p>
+ */
+final class TerrainGenerationQueue {
+
+    // Chunks generated ahead per world, the least recently queued ones are dropped first
+    private static final int MAX_PENDING_TERRAIN = 64;
+    @Nullable private static ExecutorService executor;
+
+    private final SpongeChunkGeneratorForge generator;
+    private final ReentrantLock generationLock = new ReentrantLock();
+    // Only used by the main thread
+    private final Long2ObjectLinkedOpenHashMap<PendingTerrain> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private final Queue<PendingTerrain> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean mainThreadWaiting;
+
+    TerrainGenerationQueue(SpongeChunkGeneratorForge generator) {
+        this.generator = generator;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge Terrain Generator #%d")
+                            .setDaemon(true)
+                            .build());
+        }
+        return executor;
+    }
+
+    /**
+     * Queues the terrain of the given chunk to be generated ahead.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     */
+    void queue(int chunkX, int chunkZ) {
+        final long key = ChunkPos.chunkXZ2Int(chunkX, chunkZ);
+        if (this.pending.containsKey(key)) {
+            return;
+        }
+        if (this.pending.size() >= MAX_PENDING_TERRAIN) {
+            this.pending.removeFirst().cancel();
+        }
+        final PendingTerrain terrain = new PendingTerrain(chunkX, chunkZ);
+        this.pending.put(key, terrain);
+        this.queued.add(terrain);
+        schedule();
+    }
+
+    /**
+     * Takes the chunk generated ahead at the given position, waiting for it
+     * if a worker is generating it right now.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @return The chunk, or null if it has to be generated by the caller
+     */
+    @Nullable
+    Chunk take(int chunkX, int chunkZ) {
+        if (this.pending.isEmpty()) {
+            return null;
+        }
+        final PendingTerrain terrain = this.pending.remove(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+        if (terrain == null || terrain.cancel()) {
+            return null;
+        }
+        try {
+            return terrain.chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().error("Couldn't generate the terrain of chunk {}, {} on a worker thread, retrying on the main thread",
+                    chunkX, chunkZ, e.getCause());
+        }
+        return null;
+    }
+
+    /**
+     * Takes the generator for the main thread, keeping workers from starting
+     * on another chunk until it is released.
+     */
+    void lock() {
+        if (!this.generationLock.tryLock()) {
+            this.mainThreadWaiting = true;
+            try {
+                this.generationLock.lock();
+            } finally {
+                this.mainThreadWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Releases the generator, resuming generating ahead once the main thread
+     * is done with it.
+     */
+    void unlock() {
+        this.generationLock.unlock();
+        if (!this.generationLock.isHeldByCurrentThread() && !this.queued.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (this.draining.compareAndSet(false, true)) {
+            getExecutor().execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            PendingTerrain terrain;
+            while (!this.mainThreadWaiting && (terrain = this.queued.peek()) != null) {
+                // The main thread uses the generator, it schedules the rest again once done
+                if (!this.generationLock.tryLock()) {
+                    break;
+                }
+                try {
+                    this.queued.poll();
+                    if (terrain.start()) {
+                        try {
+                            terrain.chunk.complete(this.generator.generateTerrain(terrain.chunkX, terrain.chunkZ));
+                        } catch (Throwable t) {
+                            terrain.chunk.completeExceptionally(t);
+                        }
+                    }
+                } finally {
+                    this.generationLock.unlock();
+                }
+            }
+        } finally {
+            this.draining.set(false);
+        }
+        // Chunks queued after giving up on the queue above
+        if (!this.mainThreadWaiting && !this.generationLock.isLocked() && !this.queued.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private static final class PendingTerrain {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        final int chunkX;
+        final int chunkZ;
+        final CompletableFuture<Chunk> chunk = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        PendingTerrain(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        boolean start() {
+            return this.state.compareAndSet(QUEUED, RUNNING);
+        }
+
+        /**
+         * Cancels generating the chunk, unless a worker already started it.
+         *
+         * @return True if no worker generates the chunk
+         */
+        boolean cancel() {
+            return this.state.compareAndSet(QUEUED, CANCELLED) || this.state.get() == CANCELLED;
+        }
+    }
+}